@@ -64,6 +64,7 @@ import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.condition.Not;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.description.Description;
 import org.assertj.core.groups.FieldsOrPropertiesExtractor;
 import org.assertj.core.groups.Tuple;
@@ -1804,6 +1805,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   @Override
   public SELF hasSameElementsAs(Iterable<? extends ELEMENT> iterable) {
+    if (iterable instanceof PreparedExpectation<?> expectation) {
+      return executeAssertion(() -> iterables.assertContainsOnly(info, actual, expectation));
+    }
     // containsOnlyElementsOf is deprecated so we use its implementation
     return containsOnly(toArray(iterable));
   }
@@ -32,6 +32,7 @@ import org.assertj.core.api.recursive.comparison.RecursiveComparator;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonIntrospectionStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonSnapshot;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.util.DualClass;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -138,6 +139,9 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * // assertion succeeds as the data of both objects are the same.
    * assertThat(sherlock).usingRecursiveComparison()
    *                     .isEqualTo(sherlock2);</code></pre>
+   * <p>
+   * The expected object can also be a {@link RecursiveComparisonSnapshot}, actual is then compared to the snapshot frozen
+   * expected object whose introspected values are read from the snapshot.
    *
    * @param expected the object to compare {@code actual} to.
    * @return {@code this} assertion object.
@@ -147,6 +151,13 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @Override
   public SELF isEqualTo(Object expected) {
+    // a snapshot is compared with a copy of the configuration reading the expected values from the snapshot
+    if (expected instanceof RecursiveComparisonSnapshot expectedSnapshot)
+      return isEqualTo(expectedSnapshot.getExpected(), expectedSnapshot.comparisonConfigurationFrom(recursiveComparisonConfiguration));
+    return isEqualTo(expected, recursiveComparisonConfiguration);
+  }
+
+  private SELF isEqualTo(Object expected, RecursiveComparisonConfiguration comparisonConfiguration) {
     return executeAssertion(() -> {
       // deals with both actual and expected being null
       if (actual == expected) return;
@@ -157,7 +168,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
       // at this point expected is not null, which means actual must not be null for the assertion to pass
       objects.assertNotNull(info, actual);
       // at this point, both actual and expected are not null, we can compare them recursively!
-      List<ComparisonDifference> differences = determineDifferencesWith(expected);
+      List<ComparisonDifference> differences = determineDifferencesWith(expected, comparisonConfiguration);
       if (!differences.isEmpty())
         throw objects.getFailures().failure(info, shouldBeEqualByComparingFieldByFieldRecursively(actual,
                                                                                                   expected,
@@ -178,7 +189,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * It is then possible for the expected object to have more fields than actual which is handy when comparing
    * a base type to a subtype.
    * <p>
-   * This method is based on {@link #isEqualTo(Object)}, you can check out more usages in that method.
+   * This method is based on {@link #isEqualTo(Object)}, you can check out more usages in that method, like the other object
+   * being a {@link RecursiveComparisonSnapshot}.
    * <p>
    * Example
    * <pre><code class='java'> // equals not overridden in TolkienCharacter
@@ -206,14 +218,20 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @Override
   public SELF isNotEqualTo(Object other) {
+    // a snapshot is compared with a copy of the configuration reading the expected values from the snapshot
+    if (other instanceof RecursiveComparisonSnapshot otherSnapshot)
+      return isNotEqualTo(otherSnapshot.getExpected(), otherSnapshot.comparisonConfigurationFrom(recursiveComparisonConfiguration));
+    return isNotEqualTo(other, recursiveComparisonConfiguration);
+  }
+
+  private SELF isNotEqualTo(Object other, RecursiveComparisonConfiguration comparisonConfiguration) {
     return executeAssertion(() -> {
       if (actual == other)
         throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                    recursiveComparisonConfiguration,
                                                                                                    info.representation()));
       if (other != null && actual != null) {
-        List<ComparisonDifference> differences = determineDifferencesWith(other);
-        if (differences.isEmpty())
+        if (recursiveComparisonDifferenceCalculator.areEqual(actual, other, comparisonConfiguration))
           throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                      recursiveComparisonConfiguration,
                                                                                                      info.representation()));
@@ -2003,6 +2021,118 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison compare the elements of large ordered collections, arrays and maps in parallel, using the
+   * common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+   * <p>
+   * This is meant to speed up the comparison of large object graphs, for example lists with millions of elements, small
+   * collections and arrays are still compared sequentially as the parallelism overhead would not be worth it.
+   * <p>
+   * The differences reported are the same as when comparing sequentially, elements sharing instances with elements
+   * compared in parallel are compared again sequentially to report these instances differences at the same locations.
+   * <p>
+   * The elements are compared sequentially if some compared types were specified with {@link #comparingOnlyFieldsOfTypes(Class[])}.
+   * <p>
+   * Custom comparators, equals and error messages registered in the recursive comparison must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; actual = loadPeople();
+   * List&lt;Person&gt; expected = expectedPeople();
+   *
+   * // compares the persons of both lists in parallel
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .inParallel()
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    recursiveComparisonConfiguration.inParallel(true);
+    return myself;
+  }
+
+  /**
+   * Limits the number of differences reported by the recursive comparison, the comparison stops as soon as it has found
+   * more differences than the given maximum.
+   * <p>
+   * This is useful when comparing large object graphs that differ in many places, reporting every difference would
+   * produce a huge error message and take a long time. The error message then reports the differences found as
+   * {@code n of at least m differences}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; actual = loadPeople();
+   * List&lt;Person&gt; expected = expectedPeople();
+   *
+   * // reports at most 10 differences
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withMaxDifferences(10)
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param maxDifferences the maximum number of differences to report, must be strictly positive.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if {@code maxDifferences} is not strictly positive.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF withMaxDifferences(int maxDifferences) {
+    recursiveComparisonConfiguration.setMaxDifferences(maxDifferences);
+    return myself;
+  }
+
+  /**
+   * Limits the depth of the values introspected by the recursive comparison, the root object being at depth 0 and its
+   * fields at depth 1, containers and non java types deeper than the given maximum depth are compared with {@code equals}
+   * instead of being introspected.
+   * <p>
+   * This bounds the comparison of object graphs whose size is not under control, for example entities referencing lazily
+   * loaded collections. Array and collection elements are at the same depth as their container, for example
+   * {@code person.children.[2].name} is at depth 3.
+   * <p>
+   * Only the values that would otherwise be introspected, that is containers and non java types, are cut off, enums,
+   * throwables and java types like {@code String} are compared as usual whatever their depth.
+   * <p>
+   * Example:
+   * <pre><code class='java'> class Person {
+   *   String name;
+   *   Home home = new Home();
+   * }
+   *
+   * class Home {
+   *   Address address = new Address();
+   * }
+   *
+   * class Address {
+   *   int number;
+   * }
+   *
+   * Person sherlock = new Person("Sherlock");
+   * sherlock.home.address.number = 221;
+   * Person sherlock2 = new Person("Sherlock");
+   * sherlock2.home.address.number = 221;
+   *
+   * // assertion succeeds as name and home.address.number are compared
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .withMaxDepth(3)
+   *                     .isEqualTo(sherlock2);
+   *
+   * // assertion fails as home.address is compared with Address equals which is not overridden
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .withMaxDepth(1)
+   *                     .isEqualTo(sherlock2);</code></pre>
+   *
+   * @param maxDepth the maximum depth of the introspected values, must be zero or positive.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if {@code maxDepth} is negative.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF withMaxDepth(int maxDepth) {
+    recursiveComparisonConfiguration.setMaxDepth(maxDepth);
+    return myself;
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   SELF withTypeComparators(TypeComparators newTypeComparators) {
     if (newTypeComparators != null) {
@@ -2025,7 +2155,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return recursiveComparisonConfiguration;
   }
 
-  private List<ComparisonDifference> determineDifferencesWith(Object expected) {
-    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  private List<ComparisonDifference> determineDifferencesWith(Object expected,
+                                                             RecursiveComparisonConfiguration comparisonConfiguration) {
+    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, comparisonConfiguration);
   }
 }
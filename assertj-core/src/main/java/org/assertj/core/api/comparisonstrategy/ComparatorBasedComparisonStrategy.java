@@ -22,8 +22,10 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.internal.DescribableComparator;
 
 /**
@@ -88,6 +90,12 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   @SuppressWarnings("unchecked")
   public boolean iterableContains(Iterable<?> iterable, Object value) {
     if (isNullOrEmpty(iterable)) return false;
+    // prepared expectations using our comparator find the value (null included) in O(log n)
+    if (iterable instanceof PreparedExpectation<?> expectation && isConsistentWithLookupOf(expectation))
+      return expectation.contains(value);
+    // sorted collections using our comparator find the value in O(log n)
+    if (value != null && iterable instanceof Collection<?> collection && isConsistentWithLookupOf(collection))
+      return collection.contains(value);
     for (Object element : iterable) {
       // avoid comparison when objects are the same or both null
       if (element == value) return true;
@@ -98,6 +106,20 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return false;
   }
 
+  /**
+   * Returns true if the given {@link Collection} is a {@link SortedSet} (like a {@link TreeSet} or the key set of a
+   * {@link java.util.SortedMap SortedMap}) ordered with the same {@link Comparator} instance as this comparison strategy or
+   * a {@link PreparedExpectation} prepared with it, false otherwise.
+   *
+   * @param collection the {@link Collection} we want to look values up in
+   * @return true if {@link Collection#contains(Object)} is consistent with this comparison strategy, false otherwise.
+   */
+  @Override
+  public boolean isConsistentWithLookupOf(Collection<?> collection) {
+    if (collection instanceof PreparedExpectation<?> expectation) return expectation.comparator() == comparator;
+    return collection instanceof SortedSet<?> sortedSet && sortedSet.comparator() == comparator;
+  }
+
   /**
    * Look for given value in given {@link Iterable} according to the {@link Comparator}, if value is found it is removed
    * from it.<br>
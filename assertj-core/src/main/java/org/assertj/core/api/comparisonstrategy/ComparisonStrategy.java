@@ -15,6 +15,8 @@
  */
 package org.assertj.core.api.comparisonstrategy;
 
+import java.util.Collection;
+
 /**
  * Describes the contract to implement a <b>consistent</b> comparison strategy that covers :<br>
  * - comparing two objects for equality and order<br>
@@ -87,6 +89,24 @@ public interface ComparisonStrategy {
    */
   boolean iterableContains(Iterable<?> collection, Object value);
 
+  /**
+   * Returns true if the given {@link Collection} looks up its elements with its own structure (hash table, tree, bit vector,
+   * ...) consistently with the implemented comparison strategy, false otherwise.
+   * <p>
+   * When it is the case, {@link Collection#contains(Object)} can be used to find a value instead of comparing it to every
+   * element of the collection, this is what {@link #iterableContains(Iterable, Object)} does.
+   * <p>
+   * The default implementation returns false.
+   *
+   * @param collection the {@link Collection} we want to look values up in
+   * @return true if {@link Collection#contains(Object)} is consistent with the implemented comparison strategy, false
+   *         otherwise.
+   * @since 4.0.0
+   */
+  default boolean isConsistentWithLookupOf(Collection<?> collection) {
+    return false;
+  }
+
   /**
    * Look for given value in given {@link Iterable} according to the implemented comparison strategy, if value is found it is
    * removed from it.<br>
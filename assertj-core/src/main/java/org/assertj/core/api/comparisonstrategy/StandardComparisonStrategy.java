@@ -16,10 +16,15 @@
 package org.assertj.core.api.comparisonstrategy;
 
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.util.Objects;
 import org.assertj.core.util.Streams;
 
@@ -124,9 +129,38 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     if (iterable == null) {
       return false;
     }
+    // prepared expectations are immutable snapshots of their values, their lookups are trusted both ways
+    if (iterable instanceof PreparedExpectation<?> expectation && isConsistentWithLookupOf(expectation)) {
+      return expectation.contains(value);
+    }
+    // some collections like ConcurrentHashMap key sets don't support looking null up
+    if (value != null && iterable instanceof Collection<?> collection && isConsistentWithLookupOf(collection)) {
+      // enums hashCode can't change, enum set lookups are trusted both ways
+      if (collection instanceof EnumSet) return collection.contains(value);
+      // only trust lookups finding the value, an element whose hashCode has changed since it was added to a hash based
+      // collection can't be found anymore but is still an element of the collection when compared one by one.
+      if (collection.contains(value)) return true;
+    }
     return Streams.stream(iterable).anyMatch(object -> areEqual(object, value));
   }
 
+  /**
+   * Returns true for {@link HashSet}, {@link LinkedHashSet}, {@link EnumSet} and {@link ConcurrentHashMap.KeySetView}
+   * collections since they rely on {@link Object#equals(Object) equals} to find their elements as well as for
+   * {@link PreparedExpectation}s prepared without comparator, false otherwise or if this comparison strategy is not
+   * {@link #isStandard() standard}.
+   *
+   * @param collection the {@link Collection} we want to look values up in
+   * @return true if {@link Collection#contains(Object)} is consistent with this comparison strategy, false otherwise.
+   */
+  @Override
+  public boolean isConsistentWithLookupOf(Collection<?> collection) {
+    if (!isStandard()) return false;
+    if (collection instanceof PreparedExpectation<?> expectation) return expectation.comparator() == null;
+    return collection instanceof EnumSet || collection instanceof ConcurrentHashMap.KeySetView
+           || collection.getClass() == HashSet.class || collection.getClass() == LinkedHashSet.class;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -17,6 +17,7 @@ package org.assertj.core.api.recursive;
 
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.ArrayList;
@@ -38,6 +39,8 @@ public abstract class AbstractRecursiveOperationConfiguration {
   private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
   private final List<Pattern> ignoredTypesRegexes = new ArrayList<>();
+  // recombined when the ignored fields regexes change, volatile as a configuration can be shared between threads
+  private volatile CombinedRegexes combinedIgnoredFieldsRegexes = CombinedRegexes.combine(List.of());
 
   protected AbstractRecursiveOperationConfiguration(AbstractBuilder<?> builder) {
     ignoreFields(builder.ignoredFields);
@@ -47,6 +50,13 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   protected AbstractRecursiveOperationConfiguration() {}
 
+  protected AbstractRecursiveOperationConfiguration(AbstractRecursiveOperationConfiguration configuration) {
+    ignoredFields.addAll(configuration.ignoredFields);
+    ignoredFieldsRegexes.addAll(configuration.ignoredFieldsRegexes);
+    ignoredTypes.addAll(configuration.ignoredTypes);
+    ignoredTypesRegexes.addAll(configuration.ignoredTypesRegexes);
+  }
+
   /**
    * Adds the given fields to the set of fields from the object under test to ignore in the recursive comparison.
    * <p>
@@ -186,13 +196,48 @@ public abstract class AbstractRecursiveOperationConfiguration {
   }
 
   public boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
+    List<Pattern> ignoredFieldsRegexes = getIgnoredFieldsRegexes();
+    if (ignoredFieldsRegexes.isEmpty()) return false;
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFieldsRegexes().stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
+    return combinedIgnoredFieldsRegexes(ignoredFieldsRegexes).anyMatches(fieldLocation);
+  }
+
+  private CombinedRegexes combinedIgnoredFieldsRegexes(List<Pattern> ignoredFieldsRegexes) {
+    CombinedRegexes combinedRegexes = combinedIgnoredFieldsRegexes;
+    // the regexes list is exposed and could have been modified directly
+    if (combinedRegexes.combines(ignoredFieldsRegexes)) return combinedRegexes;
+    combinedRegexes = CombinedRegexes.combine(ignoredFieldsRegexes);
+    combinedIgnoredFieldsRegexes = combinedRegexes;
+    return combinedRegexes;
   }
 
   public boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFields().stream().anyMatch(fieldLocation::hierarchyMatches);
+    return fieldLocation.hierarchyMatchesAnyOf(getIgnoredFields());
+  }
+
+  /**
+   * Checks whether the given field location matches an ignored field or an ignored field regex, knowing that its parent
+   * field location does not.
+   * <p>
+   * This is equivalent to {@code matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation)} but
+   * only matches the field location path instead of its whole hierarchy, which is what traversals checking parents
+   * before children need.
+   *
+   * @param fieldLocation the field location whose parent is known not to be ignored
+   * @return true if the given field location is ignored, false otherwise.
+   */
+  public boolean matchesAnIgnoredFieldOfNotIgnoredParent(FieldLocation fieldLocation) {
+    List<Pattern> ignoredFieldsRegexes = getIgnoredFieldsRegexes();
+    if (getIgnoredFields().isEmpty() && ignoredFieldsRegexes.isEmpty()) return false;
+    // the hierarchy of a field whose name contains dots includes paths that are not its parent path
+    if (fieldLocation.getFieldName().contains(FIELD_SEPARATOR))
+      return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+    String fieldPath = fieldLocation.getPathToUseInRules();
+    // the root path is never matched, as in the field location hierarchy
+    if (fieldPath.isEmpty()) return false;
+    if (getIgnoredFields().contains(fieldPath)) return true;
+    return !ignoredFieldsRegexes.isEmpty() && combinedIgnoredFieldsRegexes(ignoredFieldsRegexes).anyMatches(fieldPath);
   }
 
   private String describeIgnoredFields() {
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+
+/**
+ * Combines regexes in a single one matching a field path if any of the combined regexes matches it, this allows to match
+ * a field location hierarchy once instead of once per regex.
+ * <p>
+ * Regexes compiled with flags or using back references can't be safely combined, they are then matched one by one.
+ */
+final class CombinedRegexes {
+
+  private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+  private final List<Pattern> regexes;
+  // null if the regexes could not be combined
+  private final Pattern combinedRegex;
+
+  private CombinedRegexes(List<Pattern> regexes) {
+    this.regexes = List.copyOf(regexes);
+    this.combinedRegex = combinedRegexOf(this.regexes);
+  }
+
+  static CombinedRegexes combine(List<Pattern> regexes) {
+    return new CombinedRegexes(regexes);
+  }
+
+  boolean combines(List<Pattern> regexes) {
+    return this.regexes.equals(regexes);
+  }
+
+  boolean isCombined() {
+    return combinedRegex != null;
+  }
+
+  boolean anyMatches(FieldLocation fieldLocation) {
+    if (combinedRegex != null) return fieldLocation.hierarchyMatchesRegex(combinedRegex);
+    return regexes.stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
+  }
+
+  boolean anyMatches(String fieldPath) {
+    if (combinedRegex != null) return combinedRegex.matcher(fieldPath).matches();
+    return regexes.stream().anyMatch(regex -> regex.matcher(fieldPath).matches());
+  }
+
+  private static Pattern combinedRegexOf(List<Pattern> regexes) {
+    if (regexes.isEmpty()) return null;
+    if (regexes.size() == 1) return regexes.get(0);
+    boolean combinable = regexes.stream()
+                                .allMatch(regex -> regex.flags() == 0 && !BACK_REFERENCE.matcher(regex.pattern()).find());
+    if (!combinable) return null;
+    try {
+      // each regex is a group so that alternatives and inline flags don't leak to the other regexes
+      return Pattern.compile(regexes.stream().map(regex -> "(?:" + regex.pattern() + ")").collect(joining("|")));
+    } catch (@SuppressWarnings("unused") PatternSyntaxException e) {
+      // for example the same named group in different regexes
+      return null;
+    }
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.assertj.core.api.recursive.assertion;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.CollectionAssertionPolicy.COLLECTION_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_AND_ENTRIES;
@@ -22,11 +23,14 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
 import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,8 +50,11 @@ public class RecursiveAssertionDriver {
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // visited nodes are tracked by identity, distinct nodes with the same identity hash code must all be visited
+  private final Set<Object> visitedNodes = newSetFromMap(new IdentityHashMap<>());
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
+  // the graph is traversed with an explicit stack as deep graphs (ex: long linked lists) would overflow the call stack
+  private final Deque<GraphNode> nodesToVisit = new ArrayDeque<>();
   private final RecursiveAssertionConfiguration configuration;
 
   public RecursiveAssertionDriver(RecursiveAssertionConfiguration configuration) {
@@ -55,39 +62,54 @@ public class RecursiveAssertionDriver {
   }
 
   public List<FieldLocation> assertOverObjectGraph(Predicate<Object> predicate, Object graphNode) {
-    assertRecursively(predicate, graphNode, graphNode.getClass(), rootFieldLocation());
+    GraphNode root = new GraphNode(graphNode, graphNode.getClass(), rootFieldLocation());
+    nodesToVisit.push(root);
+    while (!nodesToVisit.isEmpty()) {
+      GraphNode nodeToVisit = nodesToVisit.pop();
+      visit(predicate, nodeToVisit, nodeToVisit == root);
+    }
     return fieldsFailingTheAssertion.stream().sorted().collect(toList());
   }
 
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
+    nodesToVisit.clear();
   }
 
-  private void assertRecursively(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+  private void visit(Predicate<Object> predicate, GraphNode graphNode, boolean isRootObject) {
+    Object node = graphNode.node();
+    Class<?> nodeType = graphNode.nodeType();
+    FieldLocation fieldLocation = graphNode.fieldLocation();
+    if (graphNode.isPrimitiveOptionalValue()) {
+      // primitive optional values have no children and are evaluated whatever the ignore and visited rules
+      evaluateAssertion(predicate, node, fieldLocation);
+      return;
+    }
     if (nodeMustBeIgnored(node, nodeType, fieldLocation)) return;
 
     boolean nodeAlreadyVisited = markNodeAsVisited(node);
     if (nodeAlreadyVisited) return;
 
-    if (!isRootObject(fieldLocation) && shouldEvaluateAssertion(nodeType)) {
+    if (!isRootObject && shouldEvaluateAssertion(nodeType)) {
       evaluateAssertion(predicate, node, fieldLocation);
     }
-    recurseIntoFieldsOfCurrentNode(predicate, node, nodeType, fieldLocation);
+    List<GraphNode> childNodes = new ArrayList<>();
+    collectChildNodesOfCurrentNode(node, nodeType, fieldLocation, childNodes);
+    // pushed in reverse order to visit the child nodes in order, as a depth first recursive traversal would
+    for (int i = childNodes.size() - 1; i >= 0; i--) {
+      nodesToVisit.push(childNodes.get(i));
+    }
   }
 
   private boolean nodeMustBeIgnored(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+    // nodes are only visited if their parent node was not ignored, checking the node own path is enough
     return isNullWhichAreIgnored(node)
            || isPrimitiveWhichAreIgnored(nodeType)
-           || configuration.matchesAnIgnoredField(fieldLocation)
-           || configuration.matchesAnIgnoredFieldRegex(fieldLocation)
+           || configuration.matchesAnIgnoredFieldOfNotIgnoredParent(fieldLocation)
            || configuration.getIgnoredTypes().contains(nodeType);
   }
 
-  private boolean isRootObject(FieldLocation fieldLocation) {
-    return fieldLocation.equals(rootFieldLocation());
-  }
-
   private boolean isNullWhichAreIgnored(Object node) {
     return node == null && configuration.shouldIgnoreAllNullFields();
   }
@@ -117,14 +139,14 @@ public class RecursiveAssertionDriver {
     return isCollection(nodeType) || isArray(nodeType);
   }
 
-  private void recurseIntoFieldsOfCurrentNode(Predicate<Object> predicate, Object node, Class<?> nodeType,
-                                              FieldLocation fieldLocation) {
+  private void collectChildNodesOfCurrentNode(Object node, Class<?> nodeType, FieldLocation fieldLocation,
+                                              List<GraphNode> childNodes) {
     if (isTypeRequiringSpecificHandling(nodeType)) {
       if (shouldRecurseOverSpecialTypes(nodeType)) {
-        doRecursionForSpecialTypes(predicate, node, nodeType, fieldLocation);
+        collectChildNodesOfSpecialTypes(node, nodeType, fieldLocation, childNodes);
       }
     } else if (shouldRecurseIntoNode(node)) {
-      evaluateFieldsOfCurrentNodeRecursively(predicate, node, fieldLocation);
+      collectFieldsOfCurrentNode(node, fieldLocation, childNodes);
     }
   }
 
@@ -141,89 +163,80 @@ public class RecursiveAssertionDriver {
     return recurseOverContainer || recurseOverMap || recurseOverOptional;
   }
 
-  private void doRecursionForSpecialTypes(Predicate<Object> predicate, Object node, Class<?> nodeType,
-                                          FieldLocation fieldLocation) {
+  private void collectChildNodesOfSpecialTypes(Object node, Class<?> nodeType, FieldLocation fieldLocation,
+                                               List<GraphNode> childNodes) {
     if (isCollection(nodeType)) {
-      recurseIntoCollection(predicate, (Collection<?>) node, fieldLocation);
+      collectCollectionElements((Collection<?>) node, fieldLocation, childNodes);
     } else if (isArray(nodeType)) {
-      recurseIntoArray(predicate, node, nodeType, fieldLocation);
+      collectArrayElements(node, nodeType, fieldLocation, childNodes);
     } else if (isMap(nodeType)) {
-      recurseIntoMap(predicate, (Map<?, ?>) node, fieldLocation);
+      collectMapEntries((Map<?, ?>) node, fieldLocation, childNodes);
     } else if (isOptionalOrPrimitiveOptional(nodeType)) {
-      recurseIntoOptional(predicate, node, fieldLocation);
+      collectOptionalValue(node, fieldLocation, childNodes);
     }
   }
 
-  private void recurseIntoCollection(Predicate<Object> predicate, Collection<?> collection, FieldLocation fieldLocation) {
+  private void collectCollectionElements(Collection<?> collection, FieldLocation fieldLocation, List<GraphNode> childNodes) {
     // TODO handle collection if needed by policy
     if (collection == null) {
       return; // no way to recursive into the collection, anyway the collection node has already been visited
     }
     int index = 0;
     for (Object element : collection) {
-      assertRecursively(predicate, element, safeGetClass(element), fieldLocation.field(INDEX_FORMAT.formatted(index)));
+      childNodes.add(new GraphNode(element, safeGetClass(element), fieldLocation.field(INDEX_FORMAT.formatted(index))));
       index++;
     }
   }
 
-  private void recurseIntoArray(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+  private void collectArrayElements(Object node, Class<?> nodeType, FieldLocation fieldLocation, List<GraphNode> childNodes) {
     if (node == null) {
       return; // no way to recursive into the array, anyway the array node has already been visited
     }
     Class<?> arrayType = nodeType.getComponentType();
     Object[] array = Arrays.asObjectArray(node);
     for (int i = 0; i < array.length; i++) {
-      assertRecursively(predicate, array[i], arrayType, fieldLocation.field(INDEX_FORMAT.formatted(i)));
+      childNodes.add(new GraphNode(array[i], arrayType, fieldLocation.field(INDEX_FORMAT.formatted(i))));
     }
   }
 
-  private void recurseIntoOptional(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
+  private void collectOptionalValue(Object node, FieldLocation fieldLocation, List<GraphNode> childNodes) {
     // If we are here, we know the node is an optional or a primitive optional
     if (node instanceof Optional<?> optionalNode) {
       if (optionalNode.isPresent()) {
         Class<?> nextNodeType = safeGetClass(optionalNode.get());
-        assertRecursively(predicate, optionalNode.get(), nextNodeType, fieldLocation.field("value"));
+        childNodes.add(new GraphNode(optionalNode.get(), nextNodeType, fieldLocation.field("value")));
       }
     } else if (node instanceof OptionalInt optionalIntNode) {
       if (optionalIntNode.isPresent()) {
-        evaluateAssertion(predicate, optionalIntNode.getAsInt(), fieldLocation.field("value"));
+        childNodes.add(GraphNode.primitiveOptionalValue(optionalIntNode.getAsInt(), fieldLocation));
       }
     } else if (node instanceof OptionalLong optionalLongNode) {
       if (optionalLongNode.isPresent()) {
-        evaluateAssertion(predicate, optionalLongNode.getAsLong(), fieldLocation.field("value"));
+        childNodes.add(GraphNode.primitiveOptionalValue(optionalLongNode.getAsLong(), fieldLocation));
       }
     } else if (node instanceof OptionalDouble optionalDoubleNode) {
       if (optionalDoubleNode.isPresent()) {
-        evaluateAssertion(predicate, optionalDoubleNode.getAsDouble(), fieldLocation.field("value"));
+        childNodes.add(GraphNode.primitiveOptionalValue(optionalDoubleNode.getAsDouble(), fieldLocation));
       }
     }
   }
 
-  private void recurseIntoMap(Predicate<Object> predicate, Map<?, ?> node, FieldLocation fieldLocation) {
+  private void collectMapEntries(Map<?, ?> node, FieldLocation fieldLocation, List<GraphNode> childNodes) {
     // If we are here, we can assume the policy is not MAP_OBJECT_ONLY
     // For both policies VALUES_ONLY and MAP_OBJECT_AND_ENTRIES we have to recurse over the values.
     if (node == null) {
       return; // no way to recursive into the map, anyway the map node has already been visited
     }
-    recurseIntoMapValues(predicate, node, fieldLocation);
+    node.values().forEach(nextNode -> collectMapElement(fieldLocation, nextNode, VALUE_FORMAT, childNodes));
     if (configuration.getMapAssertionPolicy() == MAP_OBJECT_AND_ENTRIES) {
-      recurseIntoMapKeys(predicate, node, fieldLocation);
+      node.keySet().forEach(nextNode -> collectMapElement(fieldLocation, nextNode, KEY_FORMAT, childNodes));
     }
   }
 
-  private void recurseIntoMapValues(Predicate<Object> predicate, Map<?, ?> currentNode, FieldLocation fieldLocation) {
-    currentNode.values().forEach(nextNode -> recurseIntoMapElement(predicate, fieldLocation, nextNode, VALUE_FORMAT));
-  }
-
-  private void recurseIntoMapKeys(Predicate<Object> predicate, Map<?, ?> currentNode, FieldLocation fieldLocation) {
-    currentNode.keySet().forEach(nextNode -> recurseIntoMapElement(predicate, fieldLocation, nextNode, KEY_FORMAT));
-  }
-
-  private void recurseIntoMapElement(Predicate<Object> predicate, FieldLocation fieldLocation, Object nextNode,
-                                     String msgFormat) {
+  private void collectMapElement(FieldLocation fieldLocation, Object nextNode, String msgFormat, List<GraphNode> childNodes) {
     Class<?> nextNodeType = safeGetClass(nextNode);
     String nextNodeFieldName = nextNode != null ? nextNode.toString() : NULL;
-    assertRecursively(predicate, nextNode, nextNodeType, fieldLocation.field(msgFormat.formatted(nextNodeFieldName)));
+    childNodes.add(new GraphNode(nextNode, nextNodeType, fieldLocation.field(msgFormat.formatted(nextNodeFieldName))));
   }
 
   private static Class<?> safeGetClass(Object object) {
@@ -242,29 +255,15 @@ public class RecursiveAssertionDriver {
     return isJCLType && configuration.shouldSkipJavaLibraryTypeObjects();
   }
 
-  private void evaluateFieldsOfCurrentNodeRecursively(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
+  private void collectFieldsOfCurrentNode(Object node, FieldLocation fieldLocation, List<GraphNode> childNodes) {
     configuration.getIntrospectionStrategy().getChildNodesOf(node)
-                 .forEach(field -> assertRecursively(predicate, field.value, field.type, fieldLocation.field(field.name)));
+                 .forEach(field -> childNodes.add(new GraphNode(field.value, field.type, fieldLocation.field(field.name))));
   }
 
   private boolean markNodeAsVisited(Object node) {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
-
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
-  }
-
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
-   */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
-    }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
+    return !visitedNodes.add(node);
   }
 
   private boolean isCollection(Class<?> nodeType) {
@@ -279,5 +278,15 @@ public class RecursiveAssertionDriver {
     return Map.class.isAssignableFrom(nodeType);
   }
 
-  // try to get the runtime type if possible or the declared one if not
+  // a node to visit, primitive optional values are only evaluated as they are not introspected nor tracked as visited
+  private record GraphNode(Object node, Class<?> nodeType, FieldLocation fieldLocation, boolean isPrimitiveOptionalValue) {
+
+    GraphNode(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+      this(node, nodeType, fieldLocation, false);
+    }
+
+    static GraphNode primitiveOptionalValue(Object value, FieldLocation optionalFieldLocation) {
+      return new GraphNode(value, value.getClass(), optionalFieldLocation.field("value"), true);
+    }
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.assertj.core.annotation.Beta;
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyOrFieldSupport;
+
+/**
+ * A {@link RecursiveComparisonIntrospectionStrategy} that reads the children nodes of the registered types with plain java
+ * accessors instead of reflection, the other types are introspected with a fallback strategy ({@link ComparingFields} by
+ * default).
+ * <p>
+ * Reading nodes without reflection is faster, does not require opening the compared types packages to AssertJ and works
+ * when reflection is restricted, for example in GraalVM native images. The accessors can be written by hand or generated.
+ * <p>
+ * The children nodes of a registered type are exactly the ones registered for it, subclasses must be registered on their
+ * own as they may have additional nodes.
+ * <p>
+ * Example:
+ * <pre><code class='java'> ComparingAccessors comparingAccessors = new ComparingAccessors().registerAccessor(Person.class, "name", Person::getName)
+ *                                                           .registerAccessor(Person.class, "home", Person::getHome)
+ *                                                           .registerAccessor(Home.class, "address", Home::getAddress);
+ *
+ * assertThat(actual).usingRecursiveComparison()
+ *                   .withIntrospectionStrategy(comparingAccessors)
+ *                   .isEqualTo(expected);</code></pre>
+ * <p>
+ * The same accessors can be used to extract values without reflection with {@link #registerAccessorsIn(PropertyOrFieldSupport)}.
+ *
+ * @since 4.0.0
+ */
+@Beta
+public class ComparingAccessors extends AbstractRecursiveComparisonIntrospectionStrategy {
+
+  private final RecursiveComparisonIntrospectionStrategy fallbackStrategy;
+  // children nodes accessors by type, in their registration order
+  private final Map<Class<?>, Map<String, Function<Object, ?>>> accessorsByType = new HashMap<>();
+
+  /**
+   * Creates a strategy that introspects the types without registered accessors with {@link ComparingFields}.
+   */
+  public ComparingAccessors() {
+    this(new ComparingFields());
+  }
+
+  /**
+   * Creates a strategy that introspects the types without registered accessors with the given strategy.
+   *
+   * @param fallbackStrategy the strategy used for the types without registered accessors.
+   */
+  public ComparingAccessors(RecursiveComparisonIntrospectionStrategy fallbackStrategy) {
+    this.fallbackStrategy = requireNonNull(fallbackStrategy, "The fallback introspection strategy must not be null");
+  }
+
+  /**
+   * Registers the accessor reading the given child node of the instances of the given type.
+   *
+   * @param <T> the type of the instances to read the child node from
+   * @param type the type of the instances to read the child node from
+   * @param childNodeName the child node name
+   * @param accessor the function reading the child node value
+   * @return this {@link ComparingAccessors} to chain registrations.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ComparingAccessors registerAccessor(Class<T> type, String childNodeName, Function<? super T, ?> accessor) {
+    requireNonNull(type, "The type must not be null");
+    requireNonNull(childNodeName, "The child node name must not be null");
+    requireNonNull(accessor, "The accessor must not be null");
+    accessorsByType.computeIfAbsent(type, unused -> new LinkedHashMap<>())
+                   .put(childNodeName, (Function<Object, ?>) accessor);
+    return this;
+  }
+
+  /**
+   * Registers the accessors of this strategy in the given {@link PropertyOrFieldSupport}, for example
+   * {@link PropertyOrFieldSupport#EXTRACTION} used by {@code extracting}, this way the properties or fields of the
+   * registered types are extracted without reflection too.
+   * <p>
+   * Example:
+   * <pre><code class='java'> new ComparingAccessors().registerAccessor(Person.class, "name", Person::getName)
+   *                         .registerAccessorsIn(PropertyOrFieldSupport.EXTRACTION);
+   *
+   * // the person name is read with Person::getName
+   * assertThat(persons).extracting("name")
+   *                    .contains("Luke");</code></pre>
+   *
+   * @param propertyOrFieldSupport the {@link PropertyOrFieldSupport} to register the accessors in.
+   * @return this {@link ComparingAccessors} to chain registrations.
+   */
+  public ComparingAccessors registerAccessorsIn(PropertyOrFieldSupport propertyOrFieldSupport) {
+    requireNonNull(propertyOrFieldSupport, "The PropertyOrFieldSupport must not be null");
+    accessorsByType.forEach((type, accessors) -> accessors.forEach((name, accessor) -> propertyOrFieldSupport.registerAccessor(type,
+                                                                                                                              name,
+                                                                                                                              accessor)));
+    return this;
+  }
+
+  @Override
+  public Set<String> getChildrenNodeNamesOf(Object node) {
+    if (node == null) return new HashSet<>();
+    Map<String, Function<Object, ?>> accessors = accessorsByType.get(node.getClass());
+    if (accessors == null) return fallbackStrategy.getChildrenNodeNamesOf(node);
+    return unmodifiableSet(accessors.keySet());
+  }
+
+  @Override
+  public Object getChildNodeValue(String childNodeName, Object instance) {
+    Map<String, Function<Object, ?>> accessors = accessorsByType.get(instance.getClass());
+    if (accessors == null) return fallbackStrategy.getChildNodeValue(childNodeName, instance);
+    Function<Object, ?> accessor = accessors.get(childNodeName);
+    if (accessor == null)
+      throw new IntrospectionError("No accessor registered for '%s' in %s".formatted(childNodeName,
+                                                                                    instance.getClass().getName()));
+    return accessor.apply(instance);
+  }
+
+  @Override
+  public String getDescription() {
+    return "comparing registered accessors (other types: %s)".formatted(fallbackStrategy.getDescription());
+  }
+
+  @Override
+  public void ignoreTransientFields() {
+    // transient fields only make sense for the types introspected by the fallback strategy
+    super.ignoreTransientFields();
+    fallbackStrategy.ignoreTransientFields();
+  }
+}
@@ -15,6 +15,11 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +38,15 @@ public class ComparingFields extends AbstractRecursiveComparisonIntrospectionStr
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
   private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
 
+  // fields to read per class, resolved and made accessible once, they don't depend on the strategy settings so they are
+  // shared by all instances
+  private static final ClassValue<Map<String, Field>> READABLE_FIELDS = new ClassValue<>() {
+    @Override
+    protected Map<String, Field> computeValue(Class<?> type) {
+      return readableFieldsOf(type);
+    }
+  };
+
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
     if (node == null) return new HashSet<>();
@@ -41,7 +55,34 @@ public class ComparingFields extends AbstractRecursiveComparisonIntrospectionStr
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return FieldSupport.comparison().fieldValue(childNodeName, Object.class, instance);
+    FieldSupport fieldSupport = FieldSupport.comparison();
+    // the cached fields are accessible even if private, they can only be read directly when private fields are allowed
+    if (instance != null && fieldSupport.isAllowedToUsePrivateFields()) {
+      Field field = READABLE_FIELDS.get(instance.getClass()).get(childNodeName);
+      if (field != null) {
+        try {
+          return field.get(instance);
+        } catch (@SuppressWarnings("unused") IllegalAccessException e) {
+          // let FieldSupport report the error
+        }
+      }
+    }
+    // nested, static or inaccessible fields, or private fields not allowed to be compared
+    return fieldSupport.fieldValue(childNodeName, Object.class, instance);
+  }
+
+  private static Map<String, Field> readableFieldsOf(Class<?> type) {
+    Map<String, Field> readableFields = new HashMap<>();
+    Set<String> resolvedFieldNames = new HashSet<>();
+    // a field name is resolved to the field declared the closest to the given type as FieldSupport does
+    for (Class<?> clazz = type; clazz != null && !isInJavaLangPackage(clazz); clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (!resolvedFieldNames.add(field.getName())) continue;
+        if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) continue;
+        if (field.trySetAccessible()) readableFields.put(field.getName(), field);
+      }
+    }
+    return readableFields;
   }
 
   @Override
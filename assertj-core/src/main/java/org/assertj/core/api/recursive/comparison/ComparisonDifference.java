@@ -19,10 +19,13 @@ import static java.lang.String.join;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
+import static org.assertj.core.presentation.StandardRepresentation.getMaxElementsForPrinting;
+import static org.assertj.core.presentation.StandardRepresentation.getMaxLengthForSingleLineDescription;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.internal.UnambiguousRepresentation;
@@ -45,12 +48,19 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
                                                 "- actual value  : %s%n" +
                                                 "- expected value: %s%s";
 
+  private static final String TRUNCATED_VALUE_DESCRIPTION = "%s... (%s more characters)";
+
   final List<String> decomposedPath;
-  final String concatenatedPath;
   final Object actual;
   final Object expected;
-  final Optional<String> additionalInformation;
-  final String template;
+  // the path, additional information and template are only needed to report the difference, differences found when
+  // the recursive comparison is used as a predicate are never reported so they are resolved on first access or when
+  // the differences are returned to be reported.
+  private String concatenatedPath;
+  private Supplier<String> additionalInformationSupplier;
+  private Optional<String> additionalInformation;
+  private Supplier<String> templateSupplier;
+  private String template;
 
   public ComparisonDifference(DualValue dualValue) {
     this(dualValue.getDecomposedPath(), dualValue.actual, dualValue.expected, null, DEFAULT_TEMPLATE);
@@ -64,16 +74,37 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
     this(dualValue.getDecomposedPath(), dualValue.actual, dualValue.expected, additionalInformation, template);
   }
 
+  private ComparisonDifference(DualValue dualValue, Supplier<String> additionalInformationSupplier,
+                               Supplier<String> templateSupplier) {
+    this.decomposedPath = unmodifiableList(requireNonNull(dualValue.getDecomposedPath(), "a path can't be null"));
+    this.actual = dualValue.actual;
+    this.expected = dualValue.expected;
+    this.additionalInformationSupplier = additionalInformationSupplier;
+    this.templateSupplier = templateSupplier;
+  }
+
   private ComparisonDifference(List<String> decomposedPath, Object actual, Object other, String additionalInformation,
                                String template) {
     this.decomposedPath = unmodifiableList(requireNonNull(decomposedPath, "a path can't be null"));
-    this.concatenatedPath = toConcatenatedPath(decomposedPath);
     this.actual = actual;
     this.expected = other;
     this.additionalInformation = Optional.ofNullable(additionalInformation);
     this.template = template != null ? template : DEFAULT_TEMPLATE;
   }
 
+  // the additional information and template are only resolved if the difference is reported
+  static ComparisonDifference lazyComparisonDifference(DualValue dualValue, Supplier<String> additionalInformationSupplier,
+                                                       Supplier<String> templateSupplier) {
+    return new ComparisonDifference(dualValue, additionalInformationSupplier, templateSupplier);
+  }
+
+  // resolves the additional information and template, lazy differences are only compared once resolved
+  ComparisonDifference resolve() {
+    getTemplate();
+    getAdditionalInformation();
+    return this;
+  }
+
   public static ComparisonDifference rootComparisonDifference(Object actual, Object other, String additionalInformation) {
     return new ComparisonDifference(rootDualValue(actual, other), additionalInformation);
   }
@@ -87,10 +118,19 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
   }
 
   public String getTemplate() {
+    if (template == null) {
+      String resolvedTemplate = templateSupplier == null ? null : templateSupplier.get();
+      template = resolvedTemplate != null ? resolvedTemplate : DEFAULT_TEMPLATE;
+      templateSupplier = null;
+    }
     return template;
   }
 
   public Optional<String> getAdditionalInformation() {
+    if (additionalInformation == null) {
+      additionalInformation = Optional.ofNullable(additionalInformationSupplier == null ? null : additionalInformationSupplier.get());
+      additionalInformationSupplier = null;
+    }
     return additionalInformation;
   }
 
@@ -100,22 +140,23 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public String getConcatenatedPath() {
+    if (concatenatedPath == null) concatenatedPath = toConcatenatedPath(decomposedPath);
     return concatenatedPath;
   }
 
   @Override
   public String toString() {
-    return additionalInformation.map(s -> "ComparisonDifference [path=%s, actual=%s, expected=%s, template=%s, additionalInformation=%s]".formatted(
-                                                                                                                                                    concatenatedPath,
-                                                                                                                                                    actual,
-                                                                                                                                                    expected,
-                                                                                                                                                    template,
-                                                                                                                                                    s))
-                                .orElseGet(() -> "ComparisonDifference [path=%s, actual=%s, template=%s, expected=%s]".formatted(
-                                                                                                                                 concatenatedPath,
-                                                                                                                                 actual,
-                                                                                                                                 template,
-                                                                                                                                 expected));
+    return getAdditionalInformation().map(s -> "ComparisonDifference [path=%s, actual=%s, expected=%s, template=%s, additionalInformation=%s]".formatted(
+                                                                                                                                                         getConcatenatedPath(),
+                                                                                                                                                         actual,
+                                                                                                                                                         expected,
+                                                                                                                                                         getTemplate(),
+                                                                                                                                                         s))
+                                     .orElseGet(() -> "ComparisonDifference [path=%s, actual=%s, template=%s, expected=%s]".formatted(
+                                                                                                                                      getConcatenatedPath(),
+                                                                                                                                      actual,
+                                                                                                                                      getTemplate(),
+                                                                                                                                      expected));
   }
 
   public String multiLineDescription() {
@@ -125,15 +166,30 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
 
   public String multiLineDescription(Representation representation) {
     UnambiguousRepresentation unambiguousRepresentation = new UnambiguousRepresentation(representation, actual, expected);
-    String additionalInfo = additionalInformation.map(ComparisonDifference::formatOnNewline).orElse("");
+    String additionalInfo = getAdditionalInformation().map(ComparisonDifference::formatOnNewline).orElse("");
     return getTemplate().formatted(fieldPathDescription(),
-                                   unambiguousRepresentation.getActual(),
-                                   unambiguousRepresentation.getExpected(),
+                                   truncate(unambiguousRepresentation.getActual()),
+                                   truncate(unambiguousRepresentation.getExpected()),
                                    additionalInfo);
   }
 
+  // keeps the error message readable when huge values differ
+  static String truncate(String valueDescription) {
+    int maxLength = maxLengthForValueDescription();
+    if (valueDescription == null || valueDescription.length() <= maxLength) return valueDescription;
+    return TRUNCATED_VALUE_DESCRIPTION.formatted(valueDescription.substring(0, maxLength),
+                                                 valueDescription.length() - maxLength);
+  }
+
+  // a value description can be as long as the maximum number of printed elements, each fitting on a single line
+  static int maxLengthForValueDescription() {
+    long maxLength = (long) getMaxElementsForPrinting() * getMaxLengthForSingleLineDescription();
+    return (int) Math.min(maxLength, Integer.MAX_VALUE);
+  }
+
   // returns a user-friendly path description
   protected String fieldPathDescription() {
+    String concatenatedPath = getConcatenatedPath();
     if (concatenatedPath.isEmpty()) return TOP_LEVEL_OBJECTS;
     return concatenatedPath.matches(TOP_LEVEL_ELEMENT_PATTERN)
         ? TOP_LEVEL_ELEMENTS.formatted(extractIndex(concatenatedPath))
@@ -162,7 +218,7 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
       return false;
     }
     ComparisonDifference castOther = (ComparisonDifference) other;
-    return Objects.equals(concatenatedPath, castOther.concatenatedPath)
+    return Objects.equals(getConcatenatedPath(), castOther.getConcatenatedPath())
            && Objects.equals(actual, castOther.actual)
            && Objects.equals(expected, castOther.expected)
            && Objects.equals(template, castOther.template)
@@ -171,7 +227,7 @@ public class ComparisonDifference implements Comparable<ComparisonDifference> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(concatenatedPath, actual, expected, template, additionalInformation);
+    return Objects.hash(getConcatenatedPath(), actual, expected, template, additionalInformation);
   }
 
   @Override
@@ -37,7 +37,7 @@ public class ComparisonKeyDifference extends ComparisonDifference {
 
   @Override
   public String toString() {
-    return "ComparisonDifference [path=%s, actualKey=%s, expectedKey=%s]".formatted(concatenatedPath, actualKey, expectedKey);
+    return "ComparisonDifference [path=%s, actualKey=%s, expectedKey=%s]".formatted(getConcatenatedPath(), actualKey, expectedKey);
   }
 
   @Override
@@ -47,10 +47,10 @@ public class ComparisonKeyDifference extends ComparisonDifference {
                                                                                            expectedKey);
     return format(DEFAULT_TEMPLATE + "%n" + TEMPLATE_FOR_KEY_DIFFERENCE,
                   fieldPathDescription(),
-                  unambiguousRepresentation.getActual(),
-                  unambiguousRepresentation.getExpected(),
+                  truncate(unambiguousRepresentation.getActual()),
+                  truncate(unambiguousRepresentation.getExpected()),
                   "",
-                  unambiguousKeyRepresentation.getActual(),
-                  unambiguousKeyRepresentation.getExpected());
+                  truncate(unambiguousKeyRepresentation.getActual()),
+                  truncate(unambiguousKeyRepresentation.getExpected()));
   }
 }
@@ -133,7 +133,7 @@ public final class DualValue {
     return isActualJavaType() || isExpectedJavaType();
   }
 
-  private static boolean isJavaType(Object o) {
+  static boolean isJavaType(Object o) {
     if (o == null) return false;
     String className = o.getClass().getName();
     return className.startsWith("java.")
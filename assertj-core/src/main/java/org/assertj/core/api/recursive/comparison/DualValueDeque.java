@@ -15,11 +15,12 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.LinkedList;
 
 // special deque that can ignore DualValue according to RecursiveComparisonConfiguration.
-class DualValueDeque extends LinkedList<DualValue> {
+// array based to avoid allocating a node per queued DualValue, the filtering is done when adding values.
+class DualValueDeque extends ArrayDeque<DualValue> {
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
 
   public DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
@@ -29,18 +30,18 @@ class DualValueDeque extends LinkedList<DualValue> {
   @Override
   public boolean add(DualValue dualValue) {
     if (shouldNotEvaluate(dualValue)) return false;
-    return super.add(dualValue);
-  }
-
-  @Override
-  public void add(int index, DualValue dualValue) {
-    if (shouldNotEvaluate(dualValue)) return;
-    super.add(index, dualValue);
+    // ArrayDeque.add delegates to addLast, call the super one to evaluate the value once
+    super.addLast(dualValue);
+    return true;
   }
 
   @Override
-  public boolean addAll(int index, Collection<? extends DualValue> collection) {
-    return super.addAll(index, collection.stream().filter(this::shouldAddDualValue).toList());
+  public boolean addAll(Collection<? extends DualValue> collection) {
+    boolean modified = false;
+    for (DualValue dualValue : collection) {
+      modified |= add(dualValue);
+    }
+    return modified;
   }
 
   @Override
@@ -68,8 +69,4 @@ class DualValueDeque extends LinkedList<DualValue> {
     return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue);
   }
 
-  private boolean shouldAddDualValue(DualValue dualValue) {
-    return !shouldNotEvaluate(dualValue);
-  }
-
 }
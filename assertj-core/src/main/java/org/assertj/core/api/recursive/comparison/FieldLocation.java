@@ -15,15 +15,13 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -31,20 +29,55 @@ import java.util.regex.Pattern;
 
 /**
  * Represents the path to a given field. Immutable
+ * <p>
+ * A field location is linked to its parent location, the paths are only built when requested and then cached, this
+ * avoids copying the parent path when creating the location of a child field.
  */
 // TODO should understand Map keys as field
 // TODO rename to FieldPath?
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  // null for the root location
+  private final FieldLocation parent;
+  // null for the root location
+  private final String name;
+  private final int depth;
+  // number of path elements used in rules, the array sub-paths are not (ex: [2])
+  private final int fieldDepth;
+  private final int hash;
+  // lazily computed, the computations are idempotent so racing threads would compute the same values
+  private String pathToUseInRules;
+  private List<String> decomposedPath;
+  private Set<String> pathsHierarchyToUseInRules;
+
+  private FieldLocation(FieldLocation parent, String name) {
+    this.parent = parent;
+    this.name = name;
+    if (parent == null) {
+      depth = 0;
+      fieldDepth = 0;
+      // same hash as an empty list
+      hash = 1;
+    } else {
+      depth = parent.depth + 1;
+      fieldDepth = isPathElementToUseInRules(name) ? parent.fieldDepth + 1 : parent.fieldDepth;
+      // same hash as the decomposed path list
+      hash = 31 * parent.hash + Objects.hashCode(name);
+    }
+  }
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentOf(requireNonNull(path, "path cannot be null")), path.isEmpty() ? null : path.get(path.size() - 1));
+  }
+
+  private static FieldLocation parentOf(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parent = new FieldLocation(null, null);
+    for (String pathElement : path.subList(0, path.size() - 1)) {
+      parent = new FieldLocation(parent, pathElement);
+    }
+    return parent;
   }
 
   public FieldLocation(String s) {
@@ -53,7 +86,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
 
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -61,37 +94,47 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(decomposedPath, that.decomposedPath);
+    if (hash != that.hash || depth != that.depth) return false;
+    // same decomposed path
+    for (FieldLocation location = this, other = that; location != other; location = location.parent, other = other.parent) {
+      if (!Objects.equals(location.name, other.name)) return false;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(decomposedPath);
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "<%s>".formatted(pathToUseInRules);
+    return "<%s>".formatted(getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
+  private static boolean isPathElementToUseInRules(String pathElement) {
     // remove the array sub-path, so person.children.[2].name -> person.children.name
     // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining(FIELD_SEPARATOR));
+    return !pathElement.startsWith("[");
+  }
+
+  private String computePathToUseInRules() {
+    if (parent == null) return "";
+    if (!isPathElementToUseInRules(name)) return parent.getPathToUseInRules();
+    if (parent.fieldDepth == 0) return name;
+    return parent.getPathToUseInRules() + FIELD_SEPARATOR + name;
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -118,7 +161,23 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    return getPathsHierarchyToUseInRules().contains(fieldPath);
+  }
+
+  /**
+   * Checks whether this fieldLocation or any of its parents matches one of the given fieldPaths, this is equivalent to
+   * calling {@link #hierarchyMatches(String)} for each field path but only looks up this fieldLocation hierarchy paths
+   * in the given set.
+   *
+   * @param fieldPaths the field paths to test
+   * @return true if this fieldLocation is one of the given fieldPaths or a child of one of them, false otherwise.
+   */
+  public boolean hierarchyMatchesAnyOf(Set<String> fieldPaths) {
+    if (fieldPaths.isEmpty()) return false;
+    for (String path : getPathsHierarchyToUseInRules()) {
+      if (fieldPaths.contains(path)) return true;
+    }
+    return false;
   }
 
   /**
@@ -146,40 +205,57 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    return getPathsHierarchyToUseInRules().stream().anyMatch(path -> regex.matcher(path).matches());
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      path = computeDecomposedPath();
+      decomposedPath = path;
+    }
+    return path;
+  }
+
+  private List<String> computeDecomposedPath() {
+    String[] path = new String[depth];
+    for (FieldLocation location = this; location.parent != null; location = location.parent) {
+      path[location.depth - 1] = location.name;
+    }
+    return unmodifiableList(Arrays.asList(path));
   }
 
   public String getPathToUseInRules() {
-    return pathToUseInRules;
+    String path = pathToUseInRules;
+    if (path == null) {
+      path = computePathToUseInRules();
+      pathToUseInRules = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRulesForChildField(String fieldName) {
+    String pathToUseInRules = getPathToUseInRules();
     return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    return decomposedPath.isEmpty() ? "" : decomposedPath.get(decomposedPath.size() - 1);
+    return parent == null ? "" : name;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return fieldDepth == 0 || isRootPath(getPathToUseInRules());
   }
 
   private boolean isRootPath(String pathToUseInRules) {
@@ -187,11 +263,23 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
+  }
+
+  /**
+   * Returns the number of fields this location is nested in, the root being at depth 0 and its fields at depth 1.
+   * <p>
+   * Like in rules, array and collection elements are at the same depth as their container, for example
+   * {@code person.children.[2].name} is at depth 3.
+   *
+   * @return the depth of this location fields.
+   */
+  public int getFieldDepth() {
+    return fieldDepth;
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return new FieldLocation(null, null);
   }
 
   /**
@@ -216,7 +304,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    return getPathToUseInRules().startsWith(parent.getPathToUseInRules() + FIELD_SEPARATOR);
   }
 
   /**
@@ -244,11 +332,20 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
+  private Set<String> getPathsHierarchyToUseInRules() {
+    Set<String> paths = pathsHierarchyToUseInRules;
+    if (paths == null) {
+      paths = computePathsHierarchyToUseInRules();
+      pathsHierarchyToUseInRules = paths;
+    }
+    return paths;
+  }
+
+  private Set<String> computePathsHierarchyToUseInRules() {
     // using LinkedHashSet to maintain leaf to root iteration order
     // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
     Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
+    String currentPath = getPathToUseInRules();
     while (!isRootPath(currentPath)) {
       fieldAndParentFields.add(currentPath);
       currentPath = parent(currentPath);
@@ -16,7 +16,6 @@
 package org.assertj.core.api.recursive.comparison;
 
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * {@code Comparator} comparing objects recursively as in {@link org.assertj.core.api.RecursiveComparisonAssert}.
@@ -52,8 +51,8 @@ public class RecursiveComparator implements Comparator<Object> {
     this.recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
   }
 
-  private List<ComparisonDifference> determineDifferencesWith(Object actual, Object expected) {
-    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  private boolean areEqual(Object actual, Object expected) {
+    return recursiveComparisonDifferenceCalculator.areEqual(actual, expected, recursiveComparisonConfiguration);
   }
 
   public String getDescription() {
@@ -71,7 +70,7 @@ public class RecursiveComparator implements Comparator<Object> {
   @Override
   public int compare(Object actual, Object other) {
     if (actual == other) return 0;
-    if (actual != null && other != null) return determineDifferencesWith(actual, other).size();
+    if (actual != null && other != null) return areEqual(actual, other) ? 0 : 1;
     // either actual or other is null but not both => can't be equal
     return -1;
   }
@@ -27,6 +27,7 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Array;
@@ -106,6 +107,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
 
   private boolean compareEnumAgainstString = false;
+  private boolean parallel = false;
+  private int maxDifferences = Integer.MAX_VALUE;
+  private int maxDepth = Integer.MAX_VALUE;
 
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
@@ -136,6 +140,40 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.treatNullAndEmptyIterablesAsEqual = builder.treatNullAndEmptyIterablesAsEqual;
   }
 
+  // copies the given configuration with another introspection strategy, the copy can be changed without affecting the
+  // given configuration, registered comparators and messages are shared as they are not changed while comparing values.
+  RecursiveComparisonConfiguration(RecursiveComparisonConfiguration configuration,
+                                   RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+    super(configuration);
+    this.representation = configuration.representation;
+    this.strictTypeChecking = configuration.strictTypeChecking;
+    this.ignoreAllActualNullFields = configuration.ignoreAllActualNullFields;
+    this.ignoreAllActualEmptyOptionalFields = configuration.ignoreAllActualEmptyOptionalFields;
+    this.ignoreAllExpectedNullFields = configuration.ignoreAllExpectedNullFields;
+    this.ignoreNonExistentComparedFields = configuration.ignoreNonExistentComparedFields;
+    this.comparedFields = newLinkedHashSet(configuration.comparedFields);
+    this.comparedTypes = newLinkedHashSet(configuration.comparedTypes);
+    this.ignoredOverriddenEqualsForTypes.addAll(configuration.ignoredOverriddenEqualsForTypes);
+    this.ignoredOverriddenEqualsForFields = new ArrayList<>(configuration.ignoredOverriddenEqualsForFields);
+    this.ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(configuration.ignoredOverriddenEqualsForFieldsMatchingRegexes);
+    this.ignoreAllOverriddenEquals = configuration.ignoreAllOverriddenEquals;
+    this.ignoreCollectionOrder = configuration.ignoreCollectionOrder;
+    this.ignoreArrayOrder = configuration.ignoreArrayOrder;
+    this.ignoredCollectionOrderInFields = newLinkedHashSet(configuration.ignoredCollectionOrderInFields);
+    this.ignoredCollectionOrderInFieldsMatchingRegexes.addAll(configuration.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.treatNullAndEmptyIterablesAsEqual = configuration.treatNullAndEmptyIterablesAsEqual;
+    this.typeComparators = configuration.typeComparators;
+    this.fieldComparators = configuration.fieldComparators;
+    this.typeMessages = configuration.typeMessages;
+    this.fieldMessages = configuration.fieldMessages;
+    this.fieldLocationsToCompareBecauseOfTypesToCompare.addAll(configuration.fieldLocationsToCompareBecauseOfTypesToCompare);
+    this.introspectionStrategy = introspectionStrategy;
+    this.compareEnumAgainstString = configuration.compareEnumAgainstString;
+    this.parallel = configuration.parallel;
+    this.maxDifferences = configuration.maxDifferences;
+    this.maxDepth = configuration.maxDepth;
+  }
+
   public RecursiveComparisonConfiguration(Representation representation) {
     super();
     this.representation = representation;
@@ -735,6 +773,71 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets whether the recursive comparison compares the elements of large ordered collections, arrays and maps in parallel.
+   * <p>
+   * See {@link RecursiveComparisonAssert#inParallel()} for code examples.
+   *
+   * @param parallel whether the recursive comparison compares the elements of large ordered collections, arrays and maps in parallel.
+   */
+  public void inParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  public boolean isInParallelMode() {
+    return parallel;
+  }
+
+  /**
+   * Sets the maximum number of differences the recursive comparison reports, the comparison stops as soon as it has
+   * found more differences than that.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for code examples.
+   *
+   * @param maxDifferences the maximum number of differences to report, must be strictly positive.
+   * @throws IllegalArgumentException if {@code maxDifferences} is not strictly positive.
+   */
+  public void setMaxDifferences(int maxDifferences) {
+    checkArgument(maxDifferences > 0, "The maximum number of differences to report must be strictly positive but was %s",
+                  maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  public int getMaxDifferences() {
+    return maxDifferences;
+  }
+
+  private boolean hasMaxDifferences() {
+    return maxDifferences != Integer.MAX_VALUE;
+  }
+
+  /**
+   * Sets the maximum depth of the values introspected by the recursive comparison, the root object being at depth 0 and its
+   * fields at depth 1, containers and non java types deeper than that are compared with {@code equals} instead of being
+   * introspected, enums, throwables and java types are compared as usual.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDepth(int)} for code examples.
+   *
+   * @param maxDepth the maximum depth of the introspected values, must be zero or positive.
+   * @throws IllegalArgumentException if {@code maxDepth} is negative.
+   */
+  public void setMaxDepth(int maxDepth) {
+    checkArgument(maxDepth >= 0, "The maximum depth of the introspected values must be zero or positive but was %s", maxDepth);
+    this.maxDepth = maxDepth;
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  private boolean hasMaxDepth() {
+    return maxDepth != Integer.MAX_VALUE;
+  }
+
+  boolean isBeyondMaxDepth(FieldLocation fieldLocation) {
+    return hasMaxDepth() && fieldLocation.getFieldDepth() > maxDepth;
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -748,7 +851,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder, parallel,
+                                  maxDifferences, maxDepth);
   }
 
   @Override
@@ -776,6 +880,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                        other.ignoredOverriddenEqualsForFieldsMatchingRegexes)
            && java.util.Objects.equals(getIgnoredTypes(), other.getIgnoredTypes())
            && strictTypeChecking == other.strictTypeChecking
+           && parallel == other.parallel
+           && maxDifferences == other.maxDifferences
+           && maxDepth == other.maxDepth
            && java.util.Objects.equals(typeComparators, other.typeComparators)
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
@@ -809,6 +916,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelComparison(description);
+    describeMaxDifferences(description);
+    describeMaxDepth(description);
     return description.toString();
   }
 
@@ -1093,6 +1203,21 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
+  private void describeParallelComparison(StringBuilder description) {
+    if (parallel)
+      description.append("- the elements of large ordered collections, arrays and maps were compared in parallel%n".formatted());
+  }
+
+  private void describeMaxDepth(StringBuilder description) {
+    if (hasMaxDepth())
+      description.append("- the values deeper than depth %s (root fields being at depth 1) were compared with equals instead of being introspected%n".formatted(maxDepth));
+  }
+
+  private void describeMaxDifferences(StringBuilder description) {
+    if (hasMaxDifferences())
+      description.append("- at most %s differences are reported%n".formatted(maxDifferences));
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -17,31 +17,32 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.api.recursive.comparison.ComparisonDifference.lazyComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.Sets.removeAll;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -49,12 +50,13 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.assertj.core.presentation.Representation;
+
 /**
  * Based on {@link org.assertj.core.internal.DeepDifference}
  * but takes a {@link RecursiveComparisonConfiguration},
@@ -73,6 +75,7 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String ACTUAL_NOT_ORDERED_COLLECTION = "expected field is an ordered collection but actual field is not (%s), ordered collections are: "
                                                               + describeOrderedCollectionTypes();
 
+  private static final String BEYOND_MAX_DEPTH = "Actual was compared to expected with equals as it is deeper than the maximum depth of introspected values (%s)";
   private static final String VALUE_FIELD_NAME = "value";
   private static final String ARRAY_FIELD_NAME = "array";
   private static final String STRICT_TYPE_ERROR = "the compared values are considered different since the recursive comparison enforces strict type checking and the actual value type %s is not equal to the expected value type %s";
@@ -84,6 +87,10 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                 +
                                                                 "- actual value had more fields to compare than expected value, these actual fields could not be found in expected: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // the minimum number of elements compared by a parallel task, below that the parallelism overhead is not worth it
+  private static final int MIN_PARALLEL_CHUNK_SIZE = 512;
+  // more chunks than threads allows work stealing to balance chunks that take longer to compare
+  private static final int PARALLEL_CHUNKS_PER_THREAD = 4;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -91,16 +98,32 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // when we only need to know if values are equal, the comparison stops at the first difference
+    final boolean stopAtFirstDifference;
+    // the differences found before this comparison ones when comparing sequentially, values compared in parallel only
+    // know a lower bound: the differences found so far by the values that would have been compared before them
+    private final IntSupplier differencesFoundBefore;
+    // the differences count is read by the values compared in parallel
+    private final AtomicInteger differencesCount = new AtomicInteger();
 
     public ComparisonState(VisitedDualValues visitedDualValues,
-                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           boolean stopAtFirstDifference) {
+      this(visitedDualValues, recursiveComparisonConfiguration, stopAtFirstDifference, () -> 0);
+    }
+
+    ComparisonState(VisitedDualValues visitedDualValues, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                    boolean stopAtFirstDifference, IntSupplier differencesFoundBefore) {
       this.visitedDualValues = visitedDualValues;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.stopAtFirstDifference = stopAtFirstDifference;
+      this.differencesFoundBefore = differencesFoundBefore;
     }
 
     void addDifference(ComparisonDifference comparisonDifference) {
       differences.add(comparisonDifference);
+      differencesCount.incrementAndGet();
     }
 
     void addDifference(DualValue dualValue) {
@@ -108,6 +131,11 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     void addDifference(DualValue dualValue, String description) {
+      addDifferenceDescribedBy(dualValue, () -> description);
+    }
+
+    // the description is only computed if the difference is reported, use it for descriptions rendering values
+    void addDifferenceDescribedBy(DualValue dualValue, Supplier<String> descriptionSupplier) {
       // to evaluate differences on fields of compared types, we have to traverse the whole graph of objects to compare
       // and decide afterward if differences were relevant, for example if we compare only the Employee type, and we
       // come across a Company having a list of Employee, we should evaluate the Company but ignore any of its
@@ -124,23 +152,49 @@ public class RecursiveComparisonDifferenceCalculator {
         if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
       }
 
-      String customErrorMessage = getCustomErrorMessage(dualValue);
-      ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue, description, customErrorMessage);
-      differences.add(comparisonDifference);
+      // the custom error message is only looked for if the difference is reported
+      RecursiveComparisonConfiguration configuration = recursiveComparisonConfiguration;
+      ComparisonDifference comparisonDifference = lazyComparisonDifference(dualValue, descriptionSupplier,
+                                                                           () -> getCustomErrorMessage(dualValue, configuration));
+      addDifference(comparisonDifference);
       // track the difference for the given dual values, in case we visit the same dual values again
       visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
     }
 
     void addKeyDifference(DualValue parentDualValue, Object actualKey, Object expectedKey) {
-      differences.add(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
+      addDifference(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
     }
 
     public List<ComparisonDifference> getDifferences() {
+      // the differences found past the first one left out depend on how the values were compared (in parallel or not),
+      // only keep the ones found before in the sequential comparison order
+      int maxDifferences = maxDifferences();
+      if (differences.size() - 1 > maxDifferences) differences.subList(maxDifferences + 1, differences.size()).clear();
       Collections.sort(differences);
       return differences;
     }
 
+    private int maxDifferences() {
+      // stopping at the first difference is like reporting none
+      return stopAtFirstDifference ? 0 : recursiveComparisonConfiguration.getMaxDifferences();
+    }
+
+    int differencesFound() {
+      return differencesFoundBefore.getAsInt() + differencesCount.get();
+    }
+
+    boolean shouldCompareInParallel(int dualValuesCount) {
+      // compared types are registered while comparing values, which can't be done concurrently
+      return recursiveComparisonConfiguration.isInParallelMode()
+             && !recursiveComparisonConfiguration.hasComparedTypes()
+             && dualValuesCount >= 2 * MIN_PARALLEL_CHUNK_SIZE;
+    }
+
     public boolean hasDualValuesToCompare() {
+      // one more difference than the ones to report is enough to tell that some were left out, an unbounded maximum
+      // can't be exceeded, no need to sum the differences found by the values compared in parallel
+      int maxDifferences = maxDifferences();
+      if (maxDifferences != Integer.MAX_VALUE && differencesFound() > maxDifferences) return false;
       return !dualValuesToCompare.isEmpty();
     }
 
@@ -162,7 +216,8 @@ public class RecursiveComparisonDifferenceCalculator {
       registerForComparison(dualValue);
     }
 
-    private String getCustomErrorMessage(DualValue dualValue) {
+    private static String getCustomErrorMessage(DualValue dualValue,
+                                                RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
       String fieldName = dualValue.getConcatenatedPath();
       // field custom messages take precedence over type messages
       if (recursiveComparisonConfiguration.hasCustomMessageForField(fieldName)) {
@@ -183,9 +238,6 @@ public class RecursiveComparisonDifferenceCalculator {
       return null;
     }
 
-    String toStringOf(Object value) {
-      return recursiveComparisonConfiguration.getRepresentation().toStringOf(value);
-    }
   }
 
   /**
@@ -214,7 +266,32 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && typesDiffer(rootDualValue)) {
       return list(typeDifference(rootDualValue));
     }
-    return determineDifferences(rootDualValue, new VisitedDualValues(), recursiveComparisonConfiguration);
+    List<ComparisonDifference> differences = determineDifferences(rootDualValue, new VisitedDualValues(),
+                                                                  recursiveComparisonConfiguration, false);
+    // the differences are meant to be reported, resolving them releases the comparison state their descriptions need
+    differences.forEach(ComparisonDifference::resolve);
+    return differences;
+  }
+
+  /**
+   * Returns whether the given objects are equal according to the recursive comparison, this is equivalent to
+   * {@code determineDifferences(actual, expected, recursiveComparisonConfiguration).isEmpty()} but stops comparing the
+   * objects at the first difference found and does not build the differences error messages.
+   * <p>
+   * This is the method to use when the recursive comparison is used as an equality check, for example to compare
+   * elements with a comparator.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return true if the objects are equal according to the recursive comparison, false otherwise.
+   * @since 4.0.0
+   */
+  public boolean areEqual(Object actual, Object expected, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    DualValue rootDualValue = rootDualValue(actual, expected);
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && typesDiffer(rootDualValue)) return false;
+    return determineDifferences(rootDualValue, new VisitedDualValues(),
+                                recursiveComparisonConfiguration, true).isEmpty();
   }
 
   private static ComparisonDifference typeDifference(DualValue dualValue) {
@@ -226,13 +303,20 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static List<ComparisonDifference> determineDifferences(DualValue dualValue,
                                                                  VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 boolean stopAtFirstDifference) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration,
+                                                          stopAtFirstDifference);
     comparisonState.initDualValuesToCompare(dualValue);
+    compareDualValues(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
+  private static void compareDualValues(ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
     while (comparisonState.hasDualValuesToCompare()) {
 
-      dualValue = comparisonState.pickDualValueToCompare();
+      DualValue dualValue = comparisonState.pickDualValueToCompare();
       if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
         // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
         // only compare the Person type, we must compare the Person fields too even though they are not of type Person
@@ -301,6 +385,16 @@ public class RecursiveComparisonDifferenceCalculator {
         compareAsThrowables(dualValue, comparisonState);
         continue;
       }
+
+      // containers and non java types beyond the maximum depth are not introspected, this bounds the comparison of graphs
+      // we don't control, java types are compared with equals below anyway.
+      if (recursiveComparisonConfiguration.isBeyondMaxDepth(dualValue.fieldLocation)
+          && (dualValue.isExpectedAContainer() || !dualValue.hasSomeJavaTypeValue())) {
+        if (!deepEquals(dualValue.actual, dualValue.expected)) {
+          comparisonState.addDifference(dualValue, BEYOND_MAX_DEPTH.formatted(recursiveComparisonConfiguration.getMaxDepth()));
+        }
+        continue;
+      }
       // TODO move hasFieldTypesDifference check into each compareXXX
 
       if (dualValue.isExpectedAnArray()) {
@@ -432,7 +526,6 @@ public class RecursiveComparisonDifferenceCalculator {
         comparisonState.registerForComparison(nodeDualValue);
       }
     }
-    return comparisonState.getDifferences();
   }
 
   private static boolean reportActualHasMissingOrExtraFields(DualValue dualValue, Set<String> actualChildrenNodeNamesToCompare,
@@ -561,14 +654,24 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, arrays are not equal as they don't have the same size
       return;
     }
+    if (canComparePrimitiveArraysElementsDirectly(dualValue, actualArrayLength, comparisonState)) {
+      registerMismatchingElementsOfPrimitiveArrays(dualValue, actualArrayLength, comparisonState);
+      return;
+    }
     // register each pair of actual/expected elements for recursive comparison
     FieldLocation arrayFieldLocation = dualValue.fieldLocation;
+    List<DualValue> elementDualValues = comparisonState.shouldCompareInParallel(actualArrayLength)
+        ? new ArrayList<>(actualArrayLength)
+        : null;
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
       FieldLocation elementFieldLocation = arrayFieldLocation.field("[%d]".formatted(i));
-      comparisonState.registerForComparison(new DualValue(elementFieldLocation, actualElement, expectedElement));
+      DualValue elementDualValue = new DualValue(elementFieldLocation, actualElement, expectedElement);
+      if (elementDualValues != null) elementDualValues.add(elementDualValue);
+      else comparisonState.registerForComparison(elementDualValue);
     }
+    if (elementDualValues != null) compareInParallel(elementDualValues, comparisonState);
   }
 
   private static void compareUnorderedArrays(DualValue dualValue, ComparisonState comparisonState) {
@@ -579,12 +682,118 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, arrays are not equal as they don't have the same size
       return;
     }
+    if (canComparePrimitiveArraysElementsDirectly(dualValue, actualArrayLength, comparisonState)
+        && (mismatchOfPrimitiveArrays(dualValue.actual, dualValue.expected, 0, actualArrayLength) < 0
+            || haveSameElementsInAnyOrder(dualValue.actual, dualValue.expected))) {
+      // otherwise use the unordered iterables algorithm to report the elements that don't match
+      return;
+    }
     // convert to iterables to reuse the compared unordered iterables algorithm
     Iterable<Object> actual = asIterable(dualValue.actual, actualArrayLength);
     Iterable<Object> expected = asIterable(dualValue.expected, expectedArrayLength);
     doCompareUnorderedIterables(dualValue, actual, expected, comparisonState);
   }
 
+  /*
+   * Primitive arrays elements can be compared without building a DualValue per element when no comparator applies to
+   * them, all the elements have the same boxed type and the same location in rules so the first ones stand for all.
+   */
+  private static boolean canComparePrimitiveArraysElementsDirectly(DualValue dualValue, int arrayLength,
+                                                                   ComparisonState comparisonState) {
+    Class<?> arrayType = dualValue.actual.getClass();
+    if (arrayLength == 0 || arrayType != dualValue.expected.getClass() || !arrayType.getComponentType().isPrimitive())
+      return false;
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    // compared types require evaluating every value, let the usual comparison deal with them
+    if (recursiveComparisonConfiguration.hasComparedTypes()) return false;
+    DualValue firstElements = new DualValue(dualValue.fieldLocation.field("[0]"), Array.get(dualValue.actual, 0),
+                                            Array.get(dualValue.expected, 0));
+    return !recursiveComparisonConfiguration.hasCustomComparator(firstElements)
+           && !recursiveComparisonConfiguration.shouldIgnore(firstElements);
+  }
+
+  // only the elements that differ are registered for comparison, they are then reported as usual
+  private static void registerMismatchingElementsOfPrimitiveArrays(DualValue dualValue, int arrayLength,
+                                                                   ComparisonState comparisonState) {
+    int mismatch = mismatchOfPrimitiveArrays(dualValue.actual, dualValue.expected, 0, arrayLength);
+    while (mismatch >= 0) {
+      FieldLocation elementFieldLocation = dualValue.fieldLocation.field("[%d]".formatted(mismatch));
+      comparisonState.registerForComparison(new DualValue(elementFieldLocation, Array.get(dualValue.actual, mismatch),
+                                                          Array.get(dualValue.expected, mismatch)));
+      mismatch = mismatch + 1 < arrayLength
+          ? mismatchOfPrimitiveArrays(dualValue.actual, dualValue.expected, mismatch + 1, arrayLength)
+          : -1;
+    }
+  }
+
+  // index of the first elements that differ from the given index, -1 if there are none
+  private static int mismatchOfPrimitiveArrays(Object actual, Object expected, int from, int length) {
+    int mismatch;
+    if (actual instanceof byte[] bytes) mismatch = Arrays.mismatch(bytes, from, length, (byte[]) expected, from, length);
+    else if (actual instanceof int[] ints) mismatch = Arrays.mismatch(ints, from, length, (int[]) expected, from, length);
+    else if (actual instanceof long[] longs) mismatch = Arrays.mismatch(longs, from, length, (long[]) expected, from, length);
+    else if (actual instanceof char[] chars) mismatch = Arrays.mismatch(chars, from, length, (char[]) expected, from, length);
+    else if (actual instanceof short[] shorts)
+      mismatch = Arrays.mismatch(shorts, from, length, (short[]) expected, from, length);
+    else if (actual instanceof boolean[] booleans)
+      mismatch = Arrays.mismatch(booleans, from, length, (boolean[]) expected, from, length);
+    else if (actual instanceof double[] doubles)
+      mismatch = Arrays.mismatch(doubles, from, length, (double[]) expected, from, length);
+    else mismatch = Arrays.mismatch((float[]) actual, from, length, (float[]) expected, from, length);
+    return mismatch < 0 ? -1 : from + mismatch;
+  }
+
+  private static boolean haveSameElementsInAnyOrder(Object actual, Object expected) {
+    if (actual instanceof boolean[] booleans) return countTrue(booleans) == countTrue((boolean[]) expected);
+    Object sortedActual = sortedCopyOf(actual);
+    Object sortedExpected = sortedCopyOf(expected);
+    return mismatchOfPrimitiveArrays(sortedActual, sortedExpected, 0, Array.getLength(sortedActual)) < 0;
+  }
+
+  private static int countTrue(boolean[] booleans) {
+    int count = 0;
+    for (boolean value : booleans) {
+      if (value) count++;
+    }
+    return count;
+  }
+
+  private static Object sortedCopyOf(Object array) {
+    if (array instanceof byte[] bytes) {
+      byte[] copy = bytes.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    if (array instanceof int[] ints) {
+      int[] copy = ints.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    if (array instanceof long[] longs) {
+      long[] copy = longs.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    if (array instanceof char[] chars) {
+      char[] copy = chars.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    if (array instanceof short[] shorts) {
+      short[] copy = shorts.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    if (array instanceof double[] doubles) {
+      double[] copy = doubles.clone();
+      Arrays.sort(copy);
+      return copy;
+    }
+    float[] copy = ((float[]) array).clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+
   private static Iterable<Object> asIterable(Object array, int arrayLength) {
     List<Object> list = new ArrayList<>(arrayLength);
     for (int i = 0; i < arrayLength; i++) {
@@ -612,14 +821,73 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     // register a pair of elements with same index for later comparison as we compare elements in order
+    List<DualValue> elementDualValues = comparisonState.shouldCompareInParallel(actualCollection.size())
+        ? new ArrayList<>(actualCollection.size())
+        : null;
     Iterator<?> expectedIterator = expectedCollection.iterator();
     int i = 0;
     for (Object element : actualCollection) {
       FieldLocation elementFieldLocation = dualValue.fieldLocation.field("[%d]".formatted(i));
       DualValue elementDualValue = new DualValue(elementFieldLocation, element, expectedIterator.next());
-      comparisonState.registerForComparison(elementDualValue);
+      if (elementDualValues != null) elementDualValues.add(elementDualValue);
+      else comparisonState.registerForComparison(elementDualValue);
       i++;
     }
+    if (elementDualValues != null) compareInParallel(elementDualValues, comparisonState);
+  }
+
+  /*
+   * Compares the given dual values in parallel by chunks, each chunk is compared as a separate comparison with its own
+   * visited dual values on top of the ones visited so far. Values shared between chunks would have been compared once
+   * sequentially and reported as already visited afterward, in that case the chunks comparisons are discarded and the
+   * dual values are compared sequentially, this way the differences are the same as when comparing sequentially.
+   *
+   * A chunk stops comparing once the differences it found with the ones found by the chunks that would have been compared
+   * before it sequentially exceed the maximum differences to report.
+   */
+  private static void compareInParallel(List<DualValue> dualValues, ComparisonState comparisonState) {
+    int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE,
+                             dualValues.size() / (ForkJoinPool.getCommonPoolParallelism() * PARALLEL_CHUNKS_PER_THREAD));
+    int chunks = (dualValues.size() + chunkSize - 1) / chunkSize;
+    List<ComparisonState> chunkComparisonStates = new ArrayList<>(chunks);
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      int firstChunkAfter = chunk + 1;
+      IntSupplier differencesFoundBefore = () -> comparisonState.differencesFound()
+                                                 + differencesFoundBy(chunkComparisonStates.subList(firstChunkAfter, chunks));
+      chunkComparisonStates.add(new ComparisonState(comparisonState.visitedDualValues.visitedInParallel(),
+                                                    comparisonState.recursiveComparisonConfiguration,
+                                                    comparisonState.stopAtFirstDifference, differencesFoundBefore));
+    }
+    IntStream.range(0, chunks)
+             .parallel()
+             .forEach(chunk -> compareChunk(dualValues.subList(chunk * chunkSize,
+                                                               Math.min(dualValues.size(), (chunk + 1) * chunkSize)),
+                                            chunkComparisonStates.get(chunk)));
+    List<VisitedDualValues> chunkVisitedDualValues = chunkComparisonStates.stream()
+                                                                          .map(chunkComparisonState -> chunkComparisonState.visitedDualValues)
+                                                                          .toList();
+    if (VisitedDualValues.someVisitedValuesAreShared(chunkVisitedDualValues)) {
+      dualValues.forEach(comparisonState::registerForComparison);
+      return;
+    }
+    // dual values are compared sequentially from the last one to the first one, merge the chunks in the same order
+    for (int chunk = chunks - 1; chunk >= 0; chunk--) {
+      comparisonState.visitedDualValues.addAll(chunkVisitedDualValues.get(chunk));
+      chunkComparisonStates.get(chunk).differences.forEach(comparisonState::addDifference);
+    }
+  }
+
+  private static void compareChunk(List<DualValue> dualValues, ComparisonState chunkComparisonState) {
+    dualValues.forEach(chunkComparisonState::registerForComparison);
+    compareDualValues(chunkComparisonState);
+  }
+
+  private static int differencesFoundBy(List<ComparisonState> chunkComparisonStates) {
+    int differencesFound = 0;
+    for (ComparisonState chunkComparisonState : chunkComparisonStates) {
+      differencesFound += chunkComparisonState.differencesCount.get();
+    }
+    return differencesFound;
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String expectedTypeDescription) {
@@ -651,92 +919,70 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static void doCompareUnorderedIterables(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
                                                   ComparisonState comparisonState) {
-    List<Object> expectedElementsNotFound = list();
-    for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
-      if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
-          if (expectedElementMatched) break;
-        }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
-      }
-    }
+    // each actual element can be matched with only one expected element, this is an assignment problem and not a greedy
+    // search, matching an expected element with the first actual element found could prevent matching other expected
+    // elements. Actual elements with the same structural fingerprint as an expected element are tried first, it is
+    // computed from the compared fields values only and in most cases these are the only elements compared.
+    StructuralFingerprint fingerprint = new StructuralFingerprint(comparisonState.recursiveComparisonConfiguration,
+                                                                  dualValue.fieldLocation);
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(newArrayList(actual), newArrayList(expected),
+                                                                       fingerprint::of,
+                                                                       (actualElement, expectedElement) -> elementsMatch(actualElement,
+                                                                                                                         expectedElement,
+                                                                                                                         dualValue,
+                                                                                                                         comparisonState));
+    List<Object> expectedElementsNotFound = matching.unmatchedExpectedElements();
     if (!expectedElementsNotFound.isEmpty()) {
       String type = actual.getClass().getSimpleName();
-      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(type,
-                                                                                                              comparisonState.toStringOf(expectedElementsNotFound));
-      comparisonState.addDifference(dualValue, unmatched);
+      Representation representation = comparisonState.recursiveComparisonConfiguration.getRepresentation();
+      comparisonState.addDifferenceDescribedBy(dualValue,
+                                               () -> "The following expected elements were not matched in the actual %s:%n  %s".formatted(type,
+                                                                                                                                           representation.toStringOf(expectedElementsNotFound)));
       // TODO could improve the error by listing the actual elements not in expected but that would need
       // another double loop inverting actual and expected to find the actual elements not matched in expected
     }
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
-  }
-
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
-                                                 DualValue dualValue, ComparisonState comparisonState) {
-    while (actualIterator.hasNext()) {
-      Object actualElement = actualIterator.next();
-      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(new DualValue(dualValue.fieldLocation, actualElement,
-                                                                                  expectedElement),
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
-        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
-        return true;
-      }
-    }
-    return false;
+  private static boolean elementsMatch(Object actualElement, Object expectedElement, DualValue dualValue,
+                                       ComparisonState comparisonState) {
+    // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+    // the element comparison can't stop at the first difference, the visited dual values would then be registered as
+    // without differences even though their children were not all compared.
+    List<ComparisonDifference> differences = determineDifferences(new DualValue(dualValue.fieldLocation, actualElement,
+                                                                                expectedElement),
+                                                                  comparisonState.visitedDualValues,
+                                                                  comparisonState.recursiveComparisonConfiguration,
+                                                                  false);
+    return differences.isEmpty();
   }
 
   // TODO replace by ordered map
-  private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
+  private static void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
     if (!dualValue.isActualASortedMap()) {
       // at the moment we only compare iterable with iterables (but we might allow arrays too)
       comparisonState.addDifference(dualValue, differentTypeErrorMessage(dualValue, "a sorted map"));
       return;
     }
 
-    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                              comparisonState.recursiveComparisonConfiguration);
-
-    @SuppressWarnings("unchecked")
-    Map<K, V> expectedMap = (Map<K, V>) filterIgnoredFields((Map<?, ?>) dualValue.expected,
-                                                            dualValue.fieldLocation,
-                                                            comparisonState.recursiveComparisonConfiguration);
-
-    if (actualMap.size() != expectedMap.size()) {
-      comparisonState.addDifference(dualValue,
-                                    DIFFERENT_SIZE_ERROR.formatted("sorted maps", actualMap.size(), expectedMap.size()));
+    Map<?, ?> actualMap = (Map<?, ?>) dualValue.actual;
+    Map<?, ?> expectedMap = (Map<?, ?>) dualValue.expected;
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
+    int actualMapSize = sizeOfEntriesToCompare(actualMap, dualValue.fieldLocation, configuration);
+    int expectedMapSize = sizeOfEntriesToCompare(expectedMap, dualValue.fieldLocation, configuration);
+    if (actualMapSize != expectedMapSize) {
+      comparisonState.addDifference(dualValue, DIFFERENT_SIZE_ERROR.formatted("sorted maps", actualMapSize, expectedMapSize));
       // no need to inspect entries, maps are not equal as they don't have the same size
       return;
     }
-    Iterator<Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
-    for (Entry<?, ?> actualEntry : actualMap.entrySet()) {
-      Entry<?, ?> expectedEntry = expectedMapEntries.next();
+    // walk both maps entries in order, skipping the ignored ones
+    List<DualValue> valueDualValues = comparisonState.shouldCompareInParallel(actualMapSize)
+        ? new ArrayList<>(actualMapSize)
+        : null;
+    Iterator<? extends Entry<?, ?>> actualMapEntries = actualMap.entrySet().iterator();
+    Iterator<? extends Entry<?, ?>> expectedMapEntries = expectedMap.entrySet().iterator();
+    for (int i = 0; i < actualMapSize; i++) {
+      Entry<?, ?> actualEntry = nextEntryToCompare(actualMapEntries, dualValue.fieldLocation, configuration);
+      Entry<?, ?> expectedEntry = nextEntryToCompare(expectedMapEntries, dualValue.fieldLocation, configuration);
       // check keys are matched before comparing values as keys represents a field
       if (!java.util.Objects.equals(actualEntry.getKey(), expectedEntry.getKey())) {
         // report a missing key/field.
@@ -744,76 +990,100 @@ public class RecursiveComparisonDifferenceCalculator {
       } else {
         // as the key/field match we can simply compare field/key values
         FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, actualEntry.getKey());
-        comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
+        DualValue valueDualValue = new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue());
+        if (valueDualValues != null) valueDualValues.add(valueDualValue);
+        else comparisonState.registerForComparison(valueDualValue);
       }
     }
+    if (valueDualValues != null) compareInParallel(valueDualValues, comparisonState);
   }
 
-  @SuppressWarnings({ "unchecked", "rawtypes" })
   private static void compareUnorderedMap(DualValue dualValue, ComparisonState comparisonState) {
     if (!dualValue.isActualAMap()) {
       comparisonState.addDifference(dualValue, differentTypeErrorMessage(dualValue, "a map"));
       return;
     }
 
-    Map actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                        comparisonState.recursiveComparisonConfiguration);
-    Map expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
-                                          comparisonState.recursiveComparisonConfiguration);
+    Map<?, ?> actualMap = (Map<?, ?>) dualValue.actual;
+    Map<?, ?> expectedMap = (Map<?, ?>) dualValue.expected;
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
+    int actualMapSize = sizeOfEntriesToCompare(actualMap, dualValue.fieldLocation, configuration);
+    int expectedMapSize = sizeOfEntriesToCompare(expectedMap, dualValue.fieldLocation, configuration);
 
-    StringBuilder diffMessage = new StringBuilder();
-    if (actualMap.size() != expectedMap.size()) {
-      diffMessage.append(DIFFERENT_SIZE_ERROR.formatted("maps", actualMap.size(), expectedMap.size()));
-      diffMessage.append("%n".formatted());
-      // continue in order to show the maps differences in the error message
-    }
-    Set<?> expectedKeysNotInActual = removeAll(expectedMap.keySet(), actualMap.keySet());
-    Set<?> actualKeysNotInExpected = removeAll(actualMap.keySet(), expectedMap.keySet());
+    // the maps are not copied, keys are looked up in the other map directly, an ignored key is ignored in both maps
+    Set<?> expectedKeysNotInActual = keysToCompareNotIn(expectedMap, actualMap, dualValue.fieldLocation, configuration);
+    Set<?> actualKeysNotInExpected = keysToCompareNotIn(actualMap, expectedMap, dualValue.fieldLocation, configuration);
     boolean someExpectedKeysWereNotFoundInActual = !expectedKeysNotInActual.isEmpty();
     boolean someActualsKeysWereNotFoundInExpected = !actualKeysNotInExpected.isEmpty();
     if (someExpectedKeysWereNotFoundInActual || someActualsKeysWereNotFoundInExpected) {
-      if (someExpectedKeysWereNotFoundInActual) {
-        diffMessage.append("The following keys were not found in the actual map value:%n  %s%n".formatted(comparisonState.toStringOf(expectedKeysNotInActual)));
-      }
-      if (someActualsKeysWereNotFoundInExpected) {
-        diffMessage.append("The following keys were present in the actual map value, but not in the expected map value:%n  %s".formatted(comparisonState.toStringOf(actualKeysNotInExpected)));
-      }
-      comparisonState.addDifference(dualValue, diffMessage.toString());
+      Representation representation = configuration.getRepresentation();
+      comparisonState.addDifferenceDescribedBy(dualValue, () -> {
+        StringBuilder diffMessage = new StringBuilder();
+        if (actualMapSize != expectedMapSize) {
+          diffMessage.append(DIFFERENT_SIZE_ERROR.formatted("maps", actualMapSize, expectedMapSize));
+          diffMessage.append("%n".formatted());
+        }
+        if (someExpectedKeysWereNotFoundInActual) {
+          diffMessage.append("The following keys were not found in the actual map value:%n  %s%n".formatted(representation.toStringOf(expectedKeysNotInActual)));
+        }
+        if (someActualsKeysWereNotFoundInExpected) {
+          diffMessage.append("The following keys were present in the actual map value, but not in the expected map value:%n  %s".formatted(representation.toStringOf(actualKeysNotInExpected)));
+        }
+        return diffMessage.toString();
+      });
       return;
     }
     // actual and expected maps have the same keys, we need now to compare their values
-    for (Object key : expectedMap.keySet()) {
+    List<DualValue> valueDualValues = comparisonState.shouldCompareInParallel(expectedMapSize)
+        ? new ArrayList<>(expectedMapSize)
+        : null;
+    for (Entry<?, ?> expectedEntry : expectedMap.entrySet()) {
+      Object key = expectedEntry.getKey();
+      if (isIgnoredKey(key, dualValue.fieldLocation, configuration)) continue;
       FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, key);
-      comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
+      DualValue valueDualValue = new DualValue(keyFieldLocation, actualMap.get(key), expectedEntry.getValue());
+      if (valueDualValues != null) valueDualValues.add(valueDualValue);
+      else comparisonState.registerForComparison(valueDualValue);
+    }
+    if (valueDualValues != null) compareInParallel(valueDualValues, comparisonState);
+  }
+
+  private static int sizeOfEntriesToCompare(Map<?, ?> map, FieldLocation fieldLocation,
+                                            RecursiveComparisonConfiguration configuration) {
+    if (!hasIgnoredFields(configuration)) return map.size();
+    int size = 0;
+    for (Object key : map.keySet()) {
+      if (!isIgnoredKey(key, fieldLocation, configuration)) size++;
+    }
+    return size;
+  }
+
+  private static Set<?> keysToCompareNotIn(Map<?, ?> map, Map<?, ?> otherMap, FieldLocation fieldLocation,
+                                           RecursiveComparisonConfiguration configuration) {
+    Set<Object> keysNotInOtherMap = new LinkedHashSet<>();
+    for (Object key : map.keySet()) {
+      if (!otherMap.containsKey(key) && !isIgnoredKey(key, fieldLocation, configuration)) keysNotInOtherMap.add(key);
+    }
+    return keysNotInOtherMap;
+  }
+
+  private static Entry<?, ?> nextEntryToCompare(Iterator<? extends Entry<?, ?>> entries, FieldLocation fieldLocation,
+                                                RecursiveComparisonConfiguration configuration) {
+    Entry<?, ?> entry = entries.next();
+    while (isIgnoredKey(entry.getKey(), fieldLocation, configuration)) {
+      entry = entries.next();
     }
+    return entry;
   }
 
-  private static Map<?, ?> filterIgnoredFields(Map<?, ?> map, FieldLocation fieldLocation,
-                                               RecursiveComparisonConfiguration configuration) {
-    Set<String> ignoredFields = configuration.getIgnoredFields();
-    List<Pattern> ignoredFieldsRegexes = configuration.getIgnoredFieldsRegexes();
-    if (ignoredFields.isEmpty() && ignoredFieldsRegexes.isEmpty()) {
-      return map;
-    }
-    return map.entrySet().stream()
-              .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredField(fieldLocation.field(e.getKey().toString())))
-              .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredFieldRegex(fieldLocation.field(e.getKey().toString())))
-              .collect(toMap(Entry::getKey, Entry::getValue));
+  private static boolean isIgnoredKey(Object key, FieldLocation mapFieldLocation, RecursiveComparisonConfiguration configuration) {
+    if (key == null || !hasIgnoredFields(configuration)) return false;
+    FieldLocation keyFieldLocation = mapFieldLocation.field(key.toString());
+    return configuration.matchesAnIgnoredField(keyFieldLocation) || configuration.matchesAnIgnoredFieldRegex(keyFieldLocation);
   }
 
-  // workaround for https://bugs.openjdk.org/browse/JDK-8148463
-  private static <T, K, U> Collector<T, ?, Map<K, U>> toMap(Function<? super T, ? extends K> keyMapper,
-                                                            Function<? super T, ? extends U> valueMapper) {
-    @SuppressWarnings("unchecked")
-    U none = (U) new Object();
-    Collector<T, ?, Map<K, U>> downstream = Collectors.toMap(keyMapper, valueMapper.andThen(v -> v == null ? none : v));
-    Function<Map<K, U>, Map<K, U>> finisher = map -> {
-      map.replaceAll((k, v) -> v == none ? null : v);
-      return map;
-    };
-    return Collectors.collectingAndThen(downstream, finisher);
+  private static boolean hasIgnoredFields(RecursiveComparisonConfiguration configuration) {
+    return !configuration.getIgnoredFields().isEmpty() || !configuration.getIgnoredFieldsRegexes().isEmpty();
   }
 
   private static FieldLocation keyFieldLocation(FieldLocation parentFieldLocation, Object key) {
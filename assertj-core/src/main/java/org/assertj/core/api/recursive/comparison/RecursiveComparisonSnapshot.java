@@ -0,0 +1,240 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.recursive.comparison.DualValue.isJavaType;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.assertj.core.annotation.Beta;
+import org.assertj.core.api.RecursiveComparisonAssert;
+
+/**
+ * An expected object graph frozen for the recursive comparison: the children nodes of its objects are read once with the
+ * configuration introspection strategy when the snapshot is taken, comparing actual objects to the snapshot reads the
+ * expected side from it instead of introspecting it again.
+ * <p>
+ * This is useful when many actual objects are compared to the same large expected graph. A snapshot is immutable and can
+ * be shared between tests, it can also be serialized, to be loaded from a file, if the objects of the expected graph are
+ * serializable.
+ * <p>
+ * Containers (arrays, collections, maps, optionals and atomic references) are not frozen, only the objects they hold are.
+ * <p>
+ * The snapshot must be compared with the introspection strategy it was taken with, otherwise the children nodes names of
+ * the frozen objects would not match the ones of the actual objects.
+ * <p>
+ * Example:
+ * <pre><code class='java'> RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(expectedPeople());
+ *
+ * assertThat(actual).usingRecursiveComparison()
+ *                   .isEqualTo(expectedSnapshot);</code></pre>
+ *
+ * @since 4.0.0
+ */
+@Beta
+public final class RecursiveComparisonSnapshot implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final Object expected;
+  // identifies the introspection strategy the snapshot was taken with, strategies are not required to be serializable
+  private final String introspectionStrategyDescription;
+  // the children nodes values of the introspected objects of the expected graph, by identity
+  private final IdentityHashMap<Object, Map<String, Object>> childrenNodesByObject = new IdentityHashMap<>();
+
+  private RecursiveComparisonSnapshot(Object expected, RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+    this.expected = expected;
+    this.introspectionStrategyDescription = describe(introspectionStrategy);
+    freeze(introspectionStrategy);
+  }
+
+  /**
+   * Takes a snapshot of the given expected object graph, introspecting it with the default recursive comparison
+   * configuration introspection strategy.
+   *
+   * @param expected the expected object graph to freeze
+   * @return the snapshot of the given expected object graph.
+   */
+  public static RecursiveComparisonSnapshot of(Object expected) {
+    return of(expected, new RecursiveComparisonConfiguration());
+  }
+
+  /**
+   * Takes a snapshot of the given expected object graph, introspecting it with the given configuration introspection
+   * strategy.
+   * <p>
+   * The other configuration options like ignored fields are applied when comparing actual objects to the snapshot.
+   *
+   * @param expected the expected object graph to freeze
+   * @param recursiveComparisonConfiguration the configuration whose introspection strategy is used to freeze the graph
+   * @return the snapshot of the given expected object graph.
+   */
+  public static RecursiveComparisonSnapshot of(Object expected, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    requireNonNull(recursiveComparisonConfiguration, "The recursive comparison configuration must not be null");
+    return new RecursiveComparisonSnapshot(expected, recursiveComparisonConfiguration.getIntrospectionStrategy());
+  }
+
+  /**
+   * Returns the frozen expected object.
+   *
+   * @return the frozen expected object.
+   */
+  public Object getExpected() {
+    return expected;
+  }
+
+  /**
+   * Returns a copy of the given configuration whose introspection strategy reads the objects of this snapshot from it and
+   * introspects the other objects with the given configuration introspection strategy, the given configuration is not
+   * changed.
+   * <p>
+   * Used by {@link RecursiveComparisonAssert#isEqualTo(Object)} and {@link RecursiveComparisonAssert#isNotEqualTo(Object)}
+   * to compare actual objects to this snapshot.
+   *
+   * @param recursiveComparisonConfiguration the configuration to compare actual objects to this snapshot with
+   * @return a copy of the given configuration reading the objects of this snapshot from it.
+   * @throws IllegalArgumentException if the given configuration introspection strategy is not the one the snapshot was
+   *           taken with.
+   */
+  public RecursiveComparisonConfiguration comparisonConfigurationFrom(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    requireNonNull(recursiveComparisonConfiguration, "The recursive comparison configuration must not be null");
+    RecursiveComparisonIntrospectionStrategy introspectionStrategy = recursiveComparisonConfiguration.getIntrospectionStrategy();
+    String comparisonIntrospectionStrategyDescription = describe(introspectionStrategy);
+    checkArgument(introspectionStrategyDescription.equals(comparisonIntrospectionStrategyDescription),
+                  "The snapshot was taken with the %s introspection strategy but is compared with the %s introspection strategy",
+                  introspectionStrategyDescription, comparisonIntrospectionStrategyDescription);
+    return new RecursiveComparisonConfiguration(recursiveComparisonConfiguration,
+                                                new SnapshotIntrospectionStrategy(introspectionStrategy));
+  }
+
+  private static String describe(RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+    return "%s ('%s')".formatted(introspectionStrategy.getClass().getName(), introspectionStrategy.getDescription());
+  }
+
+  @Override
+  public String toString() {
+    return "RecursiveComparisonSnapshot of %s".formatted(expected);
+  }
+
+  private void freeze(RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+    Set<Object> visitedContainers = newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> objectsToFreeze = new ArrayDeque<>();
+    push(expected, objectsToFreeze);
+    while (!objectsToFreeze.isEmpty()) {
+      Object object = objectsToFreeze.pop();
+      if (childrenNodesByObject.containsKey(object)) continue;
+      if (isContainer(object)) {
+        if (visitedContainers.add(object)) pushContainedValues(object, objectsToFreeze);
+        continue;
+      }
+      // java types are compared with equals and enums by value, they are not introspected
+      if (isJavaType(object) || object instanceof Enum) continue;
+      Map<String, Object> childrenNodes = new LinkedHashMap<>();
+      for (String childNodeName : introspectionStrategy.getChildrenNodeNamesOf(object)) {
+        Object childNodeValue = introspectionStrategy.getChildNodeValue(childNodeName, object);
+        childrenNodes.put(childNodeName, childNodeValue);
+        push(childNodeValue, objectsToFreeze);
+      }
+      childrenNodesByObject.put(object, childrenNodes);
+    }
+  }
+
+  private static boolean isContainer(Object object) {
+    // paths are iterables of paths but are compared as values
+    return (object instanceof Iterable && !(object instanceof Path))
+           || object instanceof Map
+           || object instanceof Optional
+           || object instanceof AtomicReference
+           || object instanceof AtomicReferenceArray
+           || object.getClass().isArray();
+  }
+
+  private static void pushContainedValues(Object container, Deque<Object> objectsToFreeze) {
+    if (container instanceof Map<?, ?> map) map.values().forEach(value -> push(value, objectsToFreeze));
+    else if (container instanceof Iterable<?> iterable) iterable.forEach(element -> push(element, objectsToFreeze));
+    else if (container instanceof Optional<?> optional) optional.ifPresent(value -> push(value, objectsToFreeze));
+    else if (container instanceof AtomicReference<?> atomicReference) push(atomicReference.get(), objectsToFreeze);
+    else if (container instanceof AtomicReferenceArray<?> array) {
+      for (int i = 0; i < array.length(); i++) {
+        push(array.get(i), objectsToFreeze);
+      }
+    } else if (!container.getClass().getComponentType().isPrimitive()) {
+      for (int i = 0; i < Array.getLength(container); i++) {
+        push(Array.get(container, i), objectsToFreeze);
+      }
+    }
+  }
+
+  private static void push(Object value, Deque<Object> objectsToFreeze) {
+    if (value != null) objectsToFreeze.push(value);
+  }
+
+  private class SnapshotIntrospectionStrategy implements RecursiveComparisonIntrospectionStrategy {
+
+    private final RecursiveComparisonIntrospectionStrategy introspectionStrategy;
+
+    private SnapshotIntrospectionStrategy(RecursiveComparisonIntrospectionStrategy introspectionStrategy) {
+      this.introspectionStrategy = introspectionStrategy;
+    }
+
+    @Override
+    public Set<String> getChildrenNodeNamesOf(Object node) {
+      Map<String, Object> childrenNodes = node == null ? null : childrenNodesByObject.get(node);
+      if (childrenNodes == null) return introspectionStrategy.getChildrenNodeNamesOf(node);
+      return unmodifiableSet(childrenNodes.keySet());
+    }
+
+    @Override
+    public Object getChildNodeValue(String childNodeName, Object instance) {
+      Map<String, Object> childrenNodes = childrenNodesByObject.get(instance);
+      if (childrenNodes == null || !childrenNodes.containsKey(childNodeName))
+        return introspectionStrategy.getChildNodeValue(childNodeName, instance);
+      return childrenNodes.get(childNodeName);
+    }
+
+    @Override
+    public String getDescription() {
+      return introspectionStrategy.getDescription();
+    }
+
+    @Override
+    public void ignoreTransientFields() {
+      introspectionStrategy.ignoreTransientFields();
+    }
+
+    @Override
+    public boolean shouldIgnoreTransientFields() {
+      return introspectionStrategy.shouldIgnoreTransientFields();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.internal.RecursiveHelper.isContainer;
+
+import java.util.Objects;
+
+/**
+ * Computes a hash of the elements of an unordered iterable consistent with the recursive comparison configuration: two
+ * elements that the recursive comparison finds equal get the same fingerprint.
+ * <p>
+ * The fingerprint of an element compared field by field combines the values of its compared fields, ignored fields, fields
+ * with a custom comparator and fields that are not basic java values (which would require a recursive fingerprint) don't
+ * contribute to it. Elements compared with their {@code equals} method simply use their hash code.
+ * <p>
+ * Elements with different fingerprints can still match (for example if the {@code hashCode} of an element compared with
+ * {@code equals} is inconsistent with it) so fingerprints are only used to find the likeliest candidates first.
+ */
+final class StructuralFingerprint {
+
+  private static final int UNKNOWN = 0;
+
+  private final RecursiveComparisonConfiguration configuration;
+  private final FieldLocation elementLocation;
+  // some configurations compare actual and expected asymmetrically or decide afterward which differences are relevant,
+  // in that case we can't compute a fingerprint for one side only and fall back to the elements hash code.
+  private final boolean structural;
+
+  StructuralFingerprint(RecursiveComparisonConfiguration configuration, FieldLocation elementLocation) {
+    this.configuration = configuration;
+    this.elementLocation = elementLocation;
+    this.structural = !configuration.hasComparedTypes()
+                      && !configuration.getIgnoreAllActualNullFields()
+                      && !configuration.getIgnoreAllExpectedNullFields()
+                      && !configuration.getIgnoreAllActualEmptyOptionalFields();
+  }
+
+  int of(Object element) {
+    if (!structural) return Objects.hashCode(element);
+    try {
+      return fingerprintOf(element);
+    } catch (RuntimeException e) {
+      // the element can't be introspected, the recursive comparison will report it if needed.
+      return UNKNOWN;
+    }
+  }
+
+  private int fingerprintOf(Object element) {
+    DualValue elementDualValue = new DualValue(elementLocation, element, element);
+    if (!hasFingerprint(elementDualValue)) return UNKNOWN;
+    if (isBasicValue(element)) return basicValueFingerprintOf(element);
+    if (configuration.shouldHonorOverriddenEquals(elementDualValue) && hasOverriddenEquals(element.getClass())) {
+      return element.hashCode();
+    }
+    // field names are not used as some introspection strategies match differently named fields
+    int fingerprint = 1;
+    for (String fieldName : configuration.getActualChildrenNodeNamesToCompare(elementDualValue)) {
+      Object fieldValue = configuration.getValue(fieldName, element);
+      DualValue fieldDualValue = new DualValue(elementLocation.field(fieldName), fieldValue, fieldValue);
+      // only basic values are used, other values would need a recursive fingerprint
+      if (hasFingerprint(fieldDualValue) && isBasicValue(fieldValue)) fingerprint += basicValueFingerprintOf(fieldValue);
+    }
+    return fingerprint;
+  }
+
+  private boolean hasFingerprint(DualValue dualValue) {
+    // containers and throwables are compared element by element or field by field even though they are java types,
+    // and we don't know which values a custom comparator considers equal.
+    Object value = dualValue.actual;
+    return value != null && !isContainer(value) && !(value instanceof Throwable)
+           && !configuration.hasCustomComparator(dualValue);
+  }
+
+  // values compared with equals
+  private static boolean isBasicValue(Object value) {
+    return value instanceof Enum<?> || DualValue.isJavaType(value);
+  }
+
+  private static int basicValueFingerprintOf(Object value) {
+    // enums can be compared to strings
+    return value instanceof Enum<?> enumValue ? enumValue.name().hashCode() : value.hashCode();
+  }
+
+}
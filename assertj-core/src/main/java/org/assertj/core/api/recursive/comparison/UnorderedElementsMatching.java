@@ -0,0 +1,192 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Arrays.fill;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Matches the elements of two unordered iterables one to one, each actual element can only be matched with one expected
+ * element.
+ * <p>
+ * This is a maximum bipartite matching (augmenting paths): if an expected element can only be matched with an actual
+ * element already matched with another expected element, the latter is matched with another actual element when possible.
+ * The result does not depend on the elements order and the unmatched expected elements are the minimal set of expected
+ * elements that can't be matched.
+ * <p>
+ * Element comparisons are expensive (they are recursive comparisons) so they are computed lazily and only once per pair,
+ * actual elements having the same fingerprint as the expected element are tried first, in most cases they are the only
+ * ones compared.
+ */
+final class UnorderedElementsMatching {
+
+  private static final int UNMATCHED = -1;
+
+  private final List<?> actualElements;
+  private final List<?> expectedElements;
+  private final BiPredicate<Object, Object> elementsMatch;
+  private final int[] actualFingerprints;
+  private final int[] expectedFingerprints;
+  private final Map<Integer, List<Integer>> actualIndexesByFingerprint = new HashMap<>();
+  // expected element index matched with each actual element
+  private final int[] matchedExpectedIndexes;
+  // avoid visiting an actual element twice when looking for an augmenting path for a given expected element
+  private final int[] actualVisitStamps;
+  private int visitStamp;
+  private final Map<Long, Boolean> elementsMatchCache = new HashMap<>();
+
+  /**
+   * @param actualElements the actual elements
+   * @param expectedElements the expected elements
+   * @param fingerprint a hash such that matching elements have the same fingerprint
+   * @param elementsMatch the predicate telling if an actual element (first parameter) matches an expected element (second
+   *          parameter)
+   */
+  UnorderedElementsMatching(List<?> actualElements, List<?> expectedElements, ToIntFunction<Object> fingerprint,
+                            BiPredicate<Object, Object> elementsMatch) {
+    this.actualElements = actualElements;
+    this.expectedElements = expectedElements;
+    this.elementsMatch = elementsMatch;
+    this.actualFingerprints = new int[actualElements.size()];
+    for (int i = 0; i < actualFingerprints.length; i++) {
+      actualFingerprints[i] = fingerprint.applyAsInt(actualElements.get(i));
+      actualIndexesByFingerprint.computeIfAbsent(actualFingerprints[i], key -> new ArrayList<>()).add(i);
+    }
+    this.matchedExpectedIndexes = new int[actualElements.size()];
+    fill(matchedExpectedIndexes, UNMATCHED);
+    this.actualVisitStamps = new int[actualElements.size()];
+    this.expectedFingerprints = new int[expectedElements.size()];
+    for (int i = 0; i < expectedFingerprints.length; i++) {
+      expectedFingerprints[i] = fingerprint.applyAsInt(expectedElements.get(i));
+    }
+  }
+
+  /**
+   * Matches expected elements with actual elements and returns the expected elements that could not be matched, in their
+   * iteration order.
+   *
+   * @return the expected elements that could not be matched with an actual element.
+   */
+  List<Object> unmatchedExpectedElements() {
+    // first match each expected element with a free actual element of the same fingerprint, this is enough in most cases
+    List<Integer> expectedIndexesToMatch = new ArrayList<>();
+    for (int expectedIndex = 0; expectedIndex < expectedElements.size(); expectedIndex++) {
+      if (!matchWithFreeActualElementOfSameFingerprint(expectedIndex)) expectedIndexesToMatch.add(expectedIndex);
+    }
+    // then look for augmenting paths for the remaining expected elements
+    List<Object> unmatchedExpectedElements = new ArrayList<>();
+    for (int expectedIndex : expectedIndexesToMatch) {
+      if (!matchWithAugmentingPath(expectedIndex)) unmatchedExpectedElements.add(expectedElements.get(expectedIndex));
+    }
+    return unmatchedExpectedElements;
+  }
+
+  private boolean matchWithFreeActualElementOfSameFingerprint(int expectedIndex) {
+    for (int actualIndex : actualIndexesByFingerprint.getOrDefault(expectedFingerprints[expectedIndex], List.of())) {
+      if (matchedExpectedIndexes[actualIndex] == UNMATCHED && elementsMatch(actualIndex, expectedIndex)) {
+        matchedExpectedIndexes[actualIndex] = expectedIndex;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // iterative depth first search to avoid stack overflows on large iterables
+  private boolean matchWithAugmentingPath(int expectedIndex) {
+    visitStamp++;
+    Deque<Candidates> path = new ArrayDeque<>();
+    path.push(new Candidates(expectedIndex));
+    while (!path.isEmpty()) {
+      Candidates candidates = path.peek();
+      int actualIndex = candidates.nextUnvisited();
+      if (actualIndex == UNMATCHED) {
+        // no actual element can be (re)assigned to this expected element
+        path.pop();
+        continue;
+      }
+      if (!elementsMatch(actualIndex, candidates.expectedIndex)) continue;
+      // only mark matching actual elements as visited, others may still match other expected elements of the path
+      actualVisitStamps[actualIndex] = visitStamp;
+      candidates.current = actualIndex;
+      if (matchedExpectedIndexes[actualIndex] == UNMATCHED) {
+        // found a free actual element, each expected element of the path gets the actual element it was trying
+        for (Candidates step : path) {
+          matchedExpectedIndexes[step.current] = step.expectedIndex;
+        }
+        return true;
+      }
+      // try to match the expected element currently matched with this actual element with another actual element
+      path.push(new Candidates(matchedExpectedIndexes[actualIndex]));
+    }
+    return false;
+  }
+
+  private boolean elementsMatch(int actualIndex, int expectedIndex) {
+    long pair = (long) actualIndex * expectedElements.size() + expectedIndex;
+    Boolean match = elementsMatchCache.get(pair);
+    if (match == null) {
+      match = elementsMatch.test(actualElements.get(actualIndex), expectedElements.get(expectedIndex));
+      elementsMatchCache.put(pair, match);
+    }
+    return match;
+  }
+
+  /**
+   * The actual elements an expected element can be matched with, the ones with the same fingerprint first, then the others
+   * in their iteration order.
+   */
+  private class Candidates {
+    final int expectedIndex;
+    private final List<Integer> sameFingerprintActualIndexes;
+    private int sameFingerprintPosition;
+    private int otherPosition;
+    int current = UNMATCHED;
+
+    Candidates(int expectedIndex) {
+      this.expectedIndex = expectedIndex;
+      this.sameFingerprintActualIndexes = actualIndexesByFingerprint.getOrDefault(expectedFingerprints[expectedIndex],
+                                                                                  List.of());
+    }
+
+    int nextUnvisited() {
+      while (sameFingerprintPosition < sameFingerprintActualIndexes.size()) {
+        int actualIndex = sameFingerprintActualIndexes.get(sameFingerprintPosition++);
+        if (isNotVisited(actualIndex)) return actualIndex;
+      }
+      while (otherPosition < actualFingerprints.length) {
+        int actualIndex = otherPosition++;
+        // elements with the same fingerprint have already been tried
+        if (actualFingerprints[actualIndex] != expectedFingerprints[expectedIndex] && isNotVisited(actualIndex)) {
+          return actualIndex;
+        }
+      }
+      return UNMATCHED;
+    }
+
+    private boolean isNotVisited(int actualIndex) {
+      return actualVisitStamps[actualIndex] != visitStamp;
+    }
+  }
+
+}
@@ -15,36 +15,131 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // dual values are indexed by their actual and expected references agnostic of location, this way values visited several
+  // times (or cycling) are found in constant time instead of looking through all the visited dual values
+  private final Map<SameValues, VisitedDualValue> dualValues = new HashMap<>();
+
+  // values compared in parallel have their own visited dual values on top of the ones visited before, the latter are
+  // only read while comparing in parallel
+  private final VisitedDualValues visitedBefore;
+
+  // the potentially cycling values looked up when comparing in parallel, used to detect values shared between the
+  // values compared in parallel
+  private final Set<SameValues> lookedUpValues;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null);
+  }
+
+  private VisitedDualValues(VisitedDualValues visitedBefore) {
+    this.visitedBefore = visitedBefore;
+    this.lookedUpValues = visitedBefore == null ? null : new HashSet<>();
+  }
+
+  /**
+   * Returns new visited dual values to compare values in parallel, they see the dual values visited so far but register
+   * the ones they visit separately, call {@link #addAll(VisitedDualValues)} to add them afterward.
+   *
+   * @return new visited dual values on top of these ones.
+   */
+  VisitedDualValues visitedInParallel() {
+    return new VisitedDualValues(this);
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // keep the first visited dual value as it is the one the comparison differences are registered for
+    this.dualValues.putIfAbsent(new SameValues(dualValue), new VisitedDualValue(dualValue));
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times.
+    // dual values visited before comparing in parallel are left untouched, the difference is only reported for values
+    // visited again which means they already had differences.
+    VisitedDualValue visitedDualValue = this.dualValues.get(new SameValues(dualValue));
+    if (visitedDualValue != null) visitedDualValue.comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    SameValues sameValues = new SameValues(dualValue);
+    if (lookedUpValues != null && dualValue.hasPotentialCyclingValues()) lookedUpValues.add(sameValues);
+    // use sameValues to get already visited dual values with different location
+    return Optional.ofNullable(visitedDualValueOf(sameValues))
+                   .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+  }
+
+  private VisitedDualValue visitedDualValueOf(SameValues sameValues) {
+    VisitedDualValue visitedDualValue = this.dualValues.get(sameValues);
+    if (visitedDualValue == null && visitedBefore != null) return visitedBefore.visitedDualValueOf(sameValues);
+    return visitedDualValue;
+  }
+
+  /**
+   * Adds the dual values visited when comparing values in parallel.
+   *
+   * @param visitedInParallel visited dual values obtained with {@link #visitedInParallel()}
+   */
+  void addAll(VisitedDualValues visitedInParallel) {
+    this.dualValues.putAll(visitedInParallel.dualValues);
+    if (lookedUpValues != null) lookedUpValues.addAll(visitedInParallel.lookedUpValues);
+  }
+
+  /**
+   * Returns whether some values visited in parallel by one of the given visited dual values were also looked up by
+   * another one, compared sequentially these values would have been compared only once and then reported as already
+   * visited, thus the comparison done in parallel can't be trusted.
+   *
+   * @param visitedInParallel visited dual values obtained with {@link #visitedInParallel()}
+   * @return true if some visited values are shared between the given visited dual values.
+   */
+  static boolean someVisitedValuesAreShared(List<VisitedDualValues> visitedInParallel) {
+    Map<SameValues, VisitedDualValues> registeredBy = new HashMap<>();
+    for (VisitedDualValues visitedDualValues : visitedInParallel) {
+      for (SameValues sameValues : visitedDualValues.dualValues.keySet()) {
+        if (registeredBy.putIfAbsent(sameValues, visitedDualValues) != null) return true;
+      }
+    }
+    for (VisitedDualValues visitedDualValues : visitedInParallel) {
+      for (SameValues sameValues : visitedDualValues.lookedUpValues) {
+        VisitedDualValues registeringVisitedDualValues = registeredBy.get(sameValues);
+        if (registeringVisitedDualValues != null && registeringVisitedDualValues != visitedDualValues) return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Key matching dual values by the identity of their actual and expected values as {@link DualValue#sameValues(DualValue)}.
+   */
+  private static final class SameValues {
+    private final Object actual;
+    private final Object expected;
+
+    SameValues(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof SameValues that && actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
   }
 
   private static class VisitedDualValue {
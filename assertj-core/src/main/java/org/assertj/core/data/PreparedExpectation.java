@@ -0,0 +1,194 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.data;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Expected values indexed once to be checked against many actual values.
+ * <p>
+ * Checking an actual iterable against a large group of expected values usually compares each actual element to the
+ * expected values one by one. A {@code PreparedExpectation} builds a hash index of the expected values (or a sorted index
+ * when created with a {@link Comparator}) that is reused by every assertion it is given to, making each check proportional
+ * to the number of actual elements. It is supported by:
+ * <ul>
+ * <li>{@link org.assertj.core.api.AbstractIterableAssert#hasSameElementsAs(Iterable) hasSameElementsAs}</li>
+ * <li>{@link org.assertj.core.api.AbstractIterableAssert#isSubsetOf(Iterable) isSubsetOf}</li>
+ * <li>{@link org.assertj.core.api.AbstractIterableAssert#doesNotContainAnyElementsOf(Iterable) doesNotContainAnyElementsOf}</li>
+ * <li>{@link org.assertj.core.api.AbstractAssert#isIn(Iterable) isIn} and
+ * {@link org.assertj.core.api.AbstractAssert#isNotIn(Iterable) isNotIn}</li>
+ * </ul>
+ * The index is only used if it is consistent with the assertion comparison strategy, that is if the expectation was
+ * prepared without comparator and the assertion uses the standard comparison strategy or if the assertion compares
+ * elements with the very same comparator instance the expectation was prepared with, otherwise the expected values are
+ * compared one by one as with any other {@link Iterable}.
+ * <p>
+ * Example:
+ * <pre><code class='java'> PreparedExpectation&lt;String&gt; allowedIds = PreparedExpectation.prepare(loadAllowList());
+ *
+ * for (Page&lt;String&gt; page : pages) {
+ *   assertThat(page.ids()).isSubsetOf(allowedIds);
+ * }</code></pre>
+ * <p>
+ * The expected values must not be modified once prepared, as with any hash based or sorted collection.
+ *
+ * @param <T> the type of the expected values.
+ * @since 4.0.0
+ */
+public final class PreparedExpectation<T> extends AbstractCollection<T> {
+
+  private static final int NOT_FOUND = -1;
+
+  private final List<T> values;
+  private final List<T> distinctValues = new ArrayList<>();
+  private final Comparator<? super T> comparator;
+  // distinct non-null values to their index in distinctValues, null if the values can't be indexed (arrays).
+  private final Map<T, Integer> index;
+  private int nullIndex = NOT_FOUND;
+
+  /**
+   * Prepares the given expected values to be looked up by their {@code equals} and {@code hashCode} methods.
+   *
+   * @param <T> the type of the expected values.
+   * @param values the expected values.
+   * @return the created {@code PreparedExpectation}.
+   * @throws NullPointerException if the given values are {@code null}.
+   */
+  public static <T> PreparedExpectation<T> prepare(Iterable<? extends T> values) {
+    return new PreparedExpectation<>(values, null);
+  }
+
+  /**
+   * Prepares the given expected values to be looked up according to the given comparator, the index is used by assertions
+   * comparing elements with this very comparator instance (for example with {@code usingElementComparator(comparator)}).
+   *
+   * @param <T> the type of the expected values.
+   * @param values the expected values.
+   * @param comparator the comparator used to sort the expected values.
+   * @return the created {@code PreparedExpectation}.
+   * @throws NullPointerException if the given values or comparator are {@code null}.
+   */
+  public static <T> PreparedExpectation<T> prepare(Iterable<? extends T> values, Comparator<? super T> comparator) {
+    return new PreparedExpectation<>(values, requireNonNull(comparator, "The comparator should not be null"));
+  }
+
+  private PreparedExpectation(Iterable<? extends T> values, Comparator<? super T> comparator) {
+    requireNonNull(values, "The expected values should not be null");
+    this.comparator = comparator;
+    this.values = new ArrayList<>();
+    values.forEach(this.values::add);
+    this.index = buildIndex();
+  }
+
+  private Map<T, Integer> buildIndex() {
+    Map<T, Integer> valuesIndex = comparator == null ? new HashMap<>() : new TreeMap<>(comparator);
+    for (T value : values) {
+      if (value == null) {
+        if (nullIndex == NOT_FOUND) nullIndex = addDistinctValue(null);
+        continue;
+      }
+      // arrays are compared by content, not by their equals and hashCode methods
+      if (comparator == null && value.getClass().isArray()) return null;
+      if (!valuesIndex.containsKey(value)) valuesIndex.put(value, addDistinctValue(value));
+    }
+    return valuesIndex;
+  }
+
+  private int addDistinctValue(T value) {
+    distinctValues.add(value);
+    return distinctValues.size() - 1;
+  }
+
+  /**
+   * Returns the comparator the expected values were prepared with, {@code null} if they are looked up with
+   * {@code equals} and {@code hashCode}.
+   *
+   * @return the comparator the expected values were prepared with, {@code null} if none.
+   */
+  public Comparator<? super T> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns whether the expected values are indexed, they are not if they were prepared without comparator and some of them
+   * are arrays, in that case they are compared one by one.
+   *
+   * @return whether the expected values are indexed.
+   */
+  public boolean isIndexed() {
+    return index != null;
+  }
+
+  /**
+   * Returns the distinct expected values in the order they were first given.
+   *
+   * @return the distinct expected values.
+   */
+  public List<T> distinctValues() {
+    return isIndexed() ? unmodifiableList(distinctValues) : unmodifiableList(values);
+  }
+
+  /**
+   * Returns the position in {@link #distinctValues()} of the expected value matching the given one, -1 if no expected
+   * value matches it.
+   *
+   * @param value the value to look up.
+   * @return the position of the matching expected value in {@link #distinctValues()}, -1 if none.
+   */
+  public int indexOf(Object value) {
+    if (value == null) return isIndexed() ? nullIndex : values.indexOf(null);
+    if (isIndexed()) {
+      try {
+        Integer position = index.get(value);
+        return position == null ? NOT_FOUND : position;
+      } catch (ClassCastException e) {
+        // value can't be compared by the comparator
+        return NOT_FOUND;
+      }
+    }
+    for (int i = 0; i < values.size(); i++) {
+      if (Objects.deepEquals(values.get(i), value)) return i;
+    }
+    return NOT_FOUND;
+  }
+
+  @Override
+  public boolean contains(Object value) {
+    return indexOf(value) != NOT_FOUND;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return unmodifiableList(values).iterator();
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+}
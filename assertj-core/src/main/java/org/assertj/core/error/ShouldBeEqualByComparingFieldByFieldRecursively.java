@@ -49,11 +49,16 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                                     List<ComparisonDifference> differences,
                                                                                     RecursiveComparisonConfiguration recursiveComparisonConfiguration,
                                                                                     Representation representation) {
-    String differencesDescription = join(differences.stream()
-                                                    .map(difference -> difference.multiLineDescription(representation))
-                                                    .collect(toList())).with("%n%n".formatted());
+    // the comparison stops after finding one difference more than the maximum to report
+    int maxDifferences = recursiveComparisonConfiguration.getMaxDifferences();
+    boolean someDifferencesLeftOut = differences.size() > maxDifferences;
+    List<ComparisonDifference> reportedDifferences = someDifferencesLeftOut ? differences.subList(0, maxDifferences) : differences;
+    String differencesDescription = join(reportedDifferences.stream()
+                                                            .map(difference -> difference.multiLineDescription(representation))
+                                                            .collect(toList())).with("%n%n".formatted());
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
-    String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
+    String differencesCount = someDifferencesLeftOut ? "%s of at least %s differences:%n"
+        : differences.size() == 1 ? "difference:%n" : "%s differences:%n";
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
                                                                "Expecting actual:%n" +
@@ -66,7 +71,7 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                "%n"+
                                                                "The recursive comparison was performed with this configuration:%n" +
                                                                recursiveComparisonConfigurationDescription, // don't use %s to avoid AssertJ formatting String with ""
-                                                               actual, other, differences.size());
+                                                               actual, other, reportedDifferences.size(), differences.size());
     // @format:on
   }
 
@@ -72,6 +72,7 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThan;
 import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqualTo;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator.memoizingRecursiveComparisonsOf;
 import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
@@ -84,7 +85,6 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -253,11 +253,13 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
+    // the same pairs of elements are compared several times
+    ComparisonStrategy pairwiseComparisonStrategy = memoizingRecursiveComparisonsOf(comparisonStrategy);
 
     for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+      if (pairwiseComparisonStrategy.iterableContains(notExpected, value)) {
+        pairwiseComparisonStrategy.iterableRemoves(notExpected, value);
+        pairwiseComparisonStrategy.iterableRemoves(notFound, value);
       }
     }
 
@@ -307,11 +309,13 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
+    // the same pairs of elements are compared several times
+    ComparisonStrategy pairwiseComparisonStrategy = memoizingRecursiveComparisonsOf(comparisonStrategy);
 
     for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+      if (pairwiseComparisonStrategy.iterableContains(notExpected, value)) {
+        pairwiseComparisonStrategy.iterablesRemoveFirst(notExpected, value);
+        pairwiseComparisonStrategy.iterablesRemoveFirst(notFound, value);
       }
     }
 
@@ -342,14 +346,6 @@ public class Arrays {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  private void iterableRemoves(Collection<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
@@ -481,7 +477,7 @@ public class Arrays {
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
     ArrayWrapperList wrapped = wrap(array);
-    Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
+    Iterable<?> duplicates = memoizingRecursiveComparisonsOf(comparisonStrategy).duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
       throw failures.failure(info, shouldNotHaveDuplicates(array, duplicates, comparisonStrategy));
   }
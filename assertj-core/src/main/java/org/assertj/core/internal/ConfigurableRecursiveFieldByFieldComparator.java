@@ -19,7 +19,12 @@ import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy.NOT_EQUAL;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -29,31 +34,85 @@ import org.assertj.core.util.introspection.IntrospectionError;
  */
 public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<Object> {
 
+  // bounds the number of memoized comparison results
+  static final int MAX_MEMOIZED_RESULTS = 10_000;
+
   private RecursiveComparisonConfiguration configuration;
   private RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
+  // null when comparison results are not memoized
+  private final Map<ComparedPair, Boolean> memoizedResults;
 
   // for testing
   ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration,
                                               RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator) {
+    this(configuration, recursiveComparisonDifferenceCalculator, false);
+  }
+
+  private ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration,
+                                                      RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator,
+                                                      boolean memoizeResults) {
     requireNonNull(configuration, "RecursiveComparisonConfiguration must not be null");
     this.configuration = configuration;
     this.recursiveComparisonDifferenceCalculator = recursiveComparisonDifferenceCalculator;
+    this.memoizedResults = memoizeResults ? new LeastRecentlyUsedResults() : null;
   }
 
   public ConfigurableRecursiveFieldByFieldComparator(RecursiveComparisonConfiguration configuration) {
     this(configuration, new RecursiveComparisonDifferenceCalculator());
   }
 
+  /**
+   * Returns a comparator comparing as this one but remembering the result of comparing a given pair of values (identified
+   * by reference) to reuse it when the same pair is compared again, the number of memoized results is bounded, the least
+   * recently used ones are evicted first.
+   * <p>
+   * The compared values could be modified between two assertions, the returned comparator is thus meant to be used by a
+   * single assertion comparing elements pairwise and dropped afterward.
+   *
+   * @return a comparator memoizing comparison results.
+   */
+  ConfigurableRecursiveFieldByFieldComparator memoizingResults() {
+    return new ConfigurableRecursiveFieldByFieldComparator(configuration, recursiveComparisonDifferenceCalculator, true);
+  }
+
+  /**
+   * Returns a comparison strategy memoizing the recursive comparisons results if the given one compares values with a
+   * {@link ConfigurableRecursiveFieldByFieldComparator}, otherwise returns the given comparison strategy.
+   * <p>
+   * This is meant for assertions comparing the same pairs of elements several times, the returned comparison strategy
+   * must not outlive the assertion, see {@link #memoizingResults()}.
+   *
+   * @param comparisonStrategy the comparison strategy of an assertion.
+   * @return a comparison strategy to use for the duration of the assertion.
+   */
+  static ComparisonStrategy memoizingRecursiveComparisonsOf(ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy
+        && comparatorBasedComparisonStrategy.getComparator() instanceof ConfigurableRecursiveFieldByFieldComparator comparator)
+      return new ComparatorBasedComparisonStrategy(comparator.memoizingResults(),
+                                                   comparatorBasedComparisonStrategy.getComparatorDescription());
+    return comparisonStrategy;
+  }
+
   @Override
   public int compare(Object actual, Object other) {
     if (actual == null && other == null) return 0;
     if (actual == null || other == null) return NOT_EQUAL;
-    return areEqual(actual, other) ? 0 : NOT_EQUAL;
+    return memoizedAreEqual(actual, other) ? 0 : NOT_EQUAL;
+  }
+
+  private boolean memoizedAreEqual(Object actual, Object other) {
+    if (memoizedResults == null) return areEqual(actual, other);
+    ComparedPair comparedPair = new ComparedPair(actual, other);
+    Boolean memoizedResult = memoizedResults.get(comparedPair);
+    if (memoizedResult != null) return memoizedResult;
+    boolean areEqual = areEqual(actual, other);
+    memoizedResults.put(comparedPair, areEqual);
+    return areEqual;
   }
 
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      return recursiveComparisonDifferenceCalculator.areEqual(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
@@ -78,4 +137,44 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
     return Objects.equals(configuration, other.configuration);
   }
 
+  /**
+   * Identifies a pair of compared objects by reference, the recursive comparison is not symmetric so the order matters.
+   */
+  private static final class ComparedPair {
+
+    private final Object actual;
+    private final Object other;
+
+    private ComparedPair(Object actual, Object other) {
+      this.actual = actual;
+      this.other = other;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof ComparedPair comparedPair)) return false;
+      return actual == comparedPair.actual && other == comparedPair.other;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(actual) + System.identityHashCode(other);
+    }
+  }
+
+  private static final class LeastRecentlyUsedResults extends LinkedHashMap<ComparedPair, Boolean> {
+
+    private static final long serialVersionUID = 1L;
+
+    private LeastRecentlyUsedResults() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ComparedPair, Boolean> eldest) {
+      return size() > MAX_MEMOIZED_RESULTS;
+    }
+  }
+
 }
@@ -19,6 +19,7 @@ import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
@@ -37,6 +38,12 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (comparisonStrategy.isStandard() && LongMultiset.canCount(actual, expected)) {
+      // homogeneous Integer or Long elements: count them in primitive tables instead of removing them from list copies
+      this.unexpected = elementsNotCountedIn(actual, expected);
+      this.missing = elementsNotCountedIn(expected, actual);
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -101,6 +108,16 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  // same as unexpectedActualElements and missingActualElements for elements countable as longs
+  private static <T> List<T> elementsNotCountedIn(Iterable<T> elements, Iterable<T> others) {
+    List<T> notCounted = new ArrayList<>();
+    LongMultiset otherCounts = LongMultiset.of(others, sizeOf(others));
+    for (T element : elements) {
+      if (!otherCounts.remove(LongMultiset.toLong(element))) notCounted.add(element);
+    }
+    return unmodifiableList(notCounted);
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
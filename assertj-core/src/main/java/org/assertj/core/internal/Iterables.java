@@ -74,6 +74,7 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator.memoizingRecursiveComparisonsOf;
 import static org.assertj.core.internal.ErrorMessages.emptySequence;
 import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
@@ -111,6 +112,7 @@ import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.configuration.Configuration;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.error.UnsatisfiedRequirement;
 import org.assertj.core.error.ZippedElementsShouldSatisfy.ZipSatisfyError;
 import org.assertj.core.presentation.PredicateDescription;
@@ -350,14 +352,6 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   /**
    * Asserts that the given {@code Iterable} contains only the given values and nothing else, in any order.
    *
@@ -378,17 +372,30 @@ public class Iterables {
     // if both actual and values are empty, then assertion passes.
     if (actualAsCollection.isEmpty() && expectedValues.length == 0) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsCollection);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsCollection, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    if (canCountAsLongs(actualAsCollection, expectedValues)) {
+      LongMultiset actualValues = LongMultiset.of(actualAsCollection, actualAsCollection.size());
+      LongMultiset expected = LongMultiset.of(expectedValues);
+      unexpectedValues = actualAsCollection.stream().filter(value -> !expected.contains(LongMultiset.toLong(value)))
+                                           .collect(toList());
+      missingValues = stream(expectedValues).filter(value -> !actualValues.contains(LongMultiset.toLong(value)))
+                                            .collect(toList());
+    } else {
+      // the same pairs of elements are compared several times
+      ComparisonStrategy pairwiseComparisonStrategy = memoizingRecursiveComparisonsOf(comparisonStrategy);
+      // after the for loop, unexpected = expectedValues - actual
+      unexpectedValues = newArrayList(actualAsCollection);
+      // after the for loop, missing = actual - expectedValues
+      missingValues = newArrayList(expectedValues);
+      for (Object expected : expectedValues) {
+        if (pairwiseComparisonStrategy.iterableContains(actualAsCollection, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          pairwiseComparisonStrategy.iterableRemoves(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          pairwiseComparisonStrategy.iterableRemoves(unexpectedValues, expected);
+        }
       }
     }
 
@@ -399,6 +406,49 @@ public class Iterables {
     }
   }
 
+  /**
+   * Asserts that the given {@code Iterable} contains only the given prepared values and nothing else, in any order, each
+   * actual element being looked up in the expectation index when it is consistent with the comparison strategy.
+   *
+   * @param info        contains information about the assertion.
+   * @param actual      the given {@code Iterable}.
+   * @param expectation the values that are expected to be in the given {@code Iterable}.
+   * @throws AssertionError if the given {@code Iterable} is {@code null}.
+   * @throws AssertionError if the given {@code Iterable} does not contain the given values or if the given
+   *           {@code Iterable} contains values that are not in the given expectation.
+   */
+  public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, PreparedExpectation<?> expectation) {
+    Object[] expectedValues = expectation.toArray();
+    if (!comparisonStrategy.isConsistentWithLookupOf(expectation)) {
+      assertContainsOnly(info, actual, expectedValues);
+      return;
+    }
+    final Collection<?> actualAsCollection = ensureActualCanBeReadMultipleTimes(actual);
+    assertNotNull(info, actualAsCollection);
+    boolean[] matched = new boolean[expectation.distinctValues().size()];
+    int matchedCount = 0;
+    List<Object> unexpectedValues = new ArrayList<>();
+    for (Object element : actualAsCollection) {
+      int index = expectation.indexOf(element);
+      if (index < 0) unexpectedValues.add(element);
+      else if (!matched[index]) {
+        matched[index] = true;
+        matchedCount++;
+      }
+    }
+    List<Object> missingValues = new ArrayList<>();
+    if (matchedCount < matched.length) {
+      for (Object expected : expectedValues) {
+        if (!matched[expectation.indexOf(expected)]) missingValues.add(expected);
+      }
+    }
+    if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
+      throw failures.failure(info, shouldContainOnly(actualAsCollection, expectedValues,
+                                                     missingValues, unexpectedValues,
+                                                     comparisonStrategy));
+    }
+  }
+
   /**
    * Asserts that the given {@code Iterable} contains the given values and only once.
    *
@@ -685,10 +735,33 @@ public class Iterables {
   public <T> void assertDoesNotContainAnyElementsOf(AssertionInfo info, Iterable<? extends T> actual,
                                                     Iterable<? extends T> iterable) {
     checkIsNotNullAndNotEmpty(iterable);
+    if (iterable instanceof PreparedExpectation<?> expectation && comparisonStrategy.isConsistentWithLookupOf(expectation)) {
+      assertDoesNotContainAny(info, actual, expectation);
+      return;
+    }
     List<T> values = newArrayList(iterable);
     assertDoesNotContain(info, actual, values.toArray());
   }
 
+  // looks each actual element up in the expectation index instead of looking each expected value up in actual
+  private void assertDoesNotContainAny(AssertionInfo info, Iterable<?> actual, PreparedExpectation<?> expectation) {
+    assertNotNull(info, actual);
+    List<?> distinctValues = expectation.distinctValues();
+    boolean[] found = new boolean[distinctValues.size()];
+    boolean anyFound = false;
+    for (Object element : actual) {
+      int index = expectation.indexOf(element);
+      if (index >= 0) found[index] = anyFound = true;
+    }
+    if (!anyFound) return;
+    // report found values in the expectation order as when looking each of them up in actual
+    Set<Object> foundValues = new LinkedHashSet<>();
+    for (int i = 0; i < found.length; i++) {
+      if (found[i]) foundValues.add(distinctValues.get(i));
+    }
+    throw failures.failure(info, shouldNotContain(actual, expectation.toArray(), foundValues, comparisonStrategy));
+  }
+
   /**
    * Asserts that the given {@code Iterable} does not have duplicate values.
    *
@@ -701,11 +774,24 @@ public class Iterables {
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, Iterable<?> actual) {
     assertNotNull(info, actual);
-    Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(actual);
+    Iterable<?> duplicates = actual instanceof Collection<?> collection && canCountAsLongs(collection)
+        ? countableDuplicatesFrom(collection)
+        : memoizingRecursiveComparisonsOf(comparisonStrategy).duplicatesFrom(actual);
     if (!isNullOrEmpty(duplicates))
       throw failures.failure(info, shouldNotHaveDuplicates(actual, duplicates, comparisonStrategy));
   }
 
+  private static Set<Object> countableDuplicatesFrom(Collection<?> actual) {
+    LongMultiset noDuplicates = new LongMultiset(actual.size());
+    Set<Object> duplicatesWithOrderPreserved = new LinkedHashSet<>();
+    for (Object element : actual) {
+      long key = LongMultiset.toLong(element);
+      if (noDuplicates.contains(key)) duplicatesWithOrderPreserved.add(element);
+      else noDuplicates.add(key);
+    }
+    return duplicatesWithOrderPreserved;
+  }
+
   /**
    * Verifies that the given {@code Iterable} starts with the given sequence of objects, without any other objects
    * between them. Similar to <code>{@link #assertContainsSequence(AssertionInfo, Iterable, Object[])}</code>, but it
@@ -1095,11 +1181,12 @@ public class Iterables {
    *                              {@code Iterable}, in any order.
    */
   public void assertContainsAll(AssertionInfo info, Iterable<?> actual, Iterable<?> other) {
-    final List<?> actualAsList = newArrayList(actual);
+    // keep actual collection as is to benefit from its lookup structure if any
+    final Collection<?> actualAsCollection = ensureActualCanBeReadMultipleTimes(actual);
     checkIterableIsNotNull(other);
-    assertNotNull(info, actualAsList);
+    assertNotNull(info, actualAsCollection);
     Object[] values = newArrayList(other).toArray();
-    assertIterableContainsGivenValues(actual.getClass(), actualAsList, values, info);
+    assertIterableContainsGivenValues(actual.getClass(), actualAsCollection, values, info);
   }
 
   /**
@@ -1377,13 +1464,23 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    final Collection<?> actualAsCollection = ensureActualCanBeReadMultipleTimes(actual);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (canCountAsLongs(actualAsCollection, values)) {
+      notFound = new ArrayList<>();
+      notExpected = new ArrayList<>();
+      countingDifference(actualAsCollection, values, notFound, notExpected);
+    } else {
+      // the same pairs of elements are compared several times
+      ComparisonStrategy pairwiseComparisonStrategy = memoizingRecursiveComparisonsOf(comparisonStrategy);
+      notExpected = newArrayList(actualAsCollection);
+      notFound = newArrayList(values);
+      for (Object value : values) {
+        if (pairwiseComparisonStrategy.iterableContains(notExpected, value)) {
+          pairwiseComparisonStrategy.iterablesRemoveFirst(notExpected, value);
+          pairwiseComparisonStrategy.iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
@@ -1393,6 +1490,35 @@ public class Iterables {
                            shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
   }
 
+  // homogeneous Integer or Long elements compared with equals are counted in primitive tables instead of being removed
+  // one by one from lists
+  private boolean canCountAsLongs(Iterable<?> actual, Object[] values) {
+    return comparisonStrategy.isStandard() && LongMultiset.canCount(actual, asList(values));
+  }
+
+  private boolean canCountAsLongs(Iterable<?> actual) {
+    return comparisonStrategy.isStandard() && LongMultiset.canCount(actual);
+  }
+
+  /**
+   * Same as removing the first occurrence of each value found in actual from both the notExpected copy of actual and the
+   * notFound copy of values, but using counts instead of removals, values must be countable as longs.
+   */
+  private static void countingDifference(Collection<?> actual, Object[] values, List<Object> notFound,
+                                         List<Object> notExpected) {
+    LongMultiset actualCounts = LongMultiset.of(actual, actual.size());
+    LongMultiset matchedCounts = new LongMultiset(values.length);
+    for (Object value : values) {
+      long key = LongMultiset.toLong(value);
+      if (actualCounts.remove(key)) matchedCounts.add(key);
+      else notFound.add(value);
+    }
+    // the first occurrences of matched values in actual are the ones that were removed
+    for (Object element : actual) {
+      if (!matchedCounts.remove(LongMultiset.toLong(element))) notExpected.add(element);
+    }
+  }
+
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Multiset of {@code long} values backed by an open addressing hash table with linear probing.
+ * <p>
+ * It is used to count boxed {@link Integer} or {@link Long} elements under standard equality without allocating a map
+ * entry and a boxed count per distinct element, see {@link #canCount(Iterable...)}.
+ */
+final class LongMultiset {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private int[] counts;
+  // a slot stays used once a key was added, even if its count drops to 0, so that probe sequences are not broken
+  private boolean[] used;
+  private int usedSlots;
+
+  LongMultiset(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    // keep the load factor below 0.5
+    while (capacity < 2L * expectedSize) capacity <<= 1;
+    allocate(capacity);
+  }
+
+  /**
+   * Returns whether the given elements are either all {@link Integer} or all {@link Long}, if so comparing them with
+   * {@code equals} is the same as comparing their {@code long} values.
+   *
+   * @param iterables the elements to check
+   * @return whether all the elements of the given iterables can be counted as {@code long} values.
+   */
+  static boolean canCount(Iterable<?>... iterables) {
+    Class<?> type = null;
+    for (Iterable<?> elements : iterables) {
+      for (Object element : elements) {
+        if (type == null) type = integralType(element);
+        if (type == null || !type.isInstance(element)) return false;
+      }
+    }
+    return true;
+  }
+
+  private static Class<?> integralType(Object element) {
+    if (element instanceof Integer) return Integer.class;
+    if (element instanceof Long) return Long.class;
+    return null;
+  }
+
+  static long toLong(Object element) {
+    return ((Number) element).longValue();
+  }
+
+  static LongMultiset of(Iterable<?> elements, int expectedSize) {
+    LongMultiset multiset = new LongMultiset(expectedSize);
+    for (Object element : elements) multiset.add(toLong(element));
+    return multiset;
+  }
+
+  static LongMultiset of(Object[] elements) {
+    LongMultiset multiset = new LongMultiset(elements.length);
+    for (Object element : elements) multiset.add(toLong(element));
+    return multiset;
+  }
+
+  void add(long value) {
+    int slot = slotOf(value);
+    if (!used[slot]) {
+      used[slot] = true;
+      keys[slot] = value;
+      if (++usedSlots * 2 > keys.length) {
+        rehash();
+        slot = slotOf(value);
+      }
+    }
+    counts[slot]++;
+  }
+
+  /**
+   * Removes one occurrence of the given value.
+   *
+   * @param value the value to remove
+   * @return true if an occurrence was removed, false if the multiset did not contain the value.
+   */
+  boolean remove(long value) {
+    int slot = slotOf(value);
+    if (!used[slot] || counts[slot] == 0) return false;
+    counts[slot]--;
+    return true;
+  }
+
+  boolean contains(long value) {
+    return count(value) > 0;
+  }
+
+  int count(long value) {
+    int slot = slotOf(value);
+    return used[slot] ? counts[slot] : 0;
+  }
+
+  // returns the slot holding value or the first unused slot of its probe sequence
+  private int slotOf(long value) {
+    int mask = keys.length - 1;
+    int slot = mix(value) & mask;
+    while (used[slot] && keys[slot] != value) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private static int mix(long value) {
+    // murmur3 finalizer to spread consecutive ids over the table
+    long hash = value;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    int[] oldCounts = counts;
+    boolean[] oldUsed = used;
+    allocate(oldKeys.length << 1);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (!oldUsed[i]) continue;
+      int slot = slotOf(oldKeys[i]);
+      used[slot] = true;
+      keys[slot] = oldKeys[i];
+      counts[slot] = oldCounts[i];
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    counts = new int[capacity];
+    used = new boolean[capacity];
+  }
+
+}
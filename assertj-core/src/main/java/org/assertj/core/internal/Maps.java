@@ -15,6 +15,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.newSetFromMap;
 import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -59,6 +60,11 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -66,6 +72,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -87,6 +97,12 @@ public class Maps {
 
   private static final Maps INSTANCE = new Maps();
 
+  // map types whose key equivalence is the one of their keys equals method (or identity for IdentityHashMap)
+  private static final Set<Class<?>> MAP_TYPES_WITH_KNOWN_KEY_EQUIVALENCE = Set.of(ConcurrentHashMap.class, EnumMap.class,
+                                                                                   HashMap.class, Hashtable.class,
+                                                                                   IdentityHashMap.class, LinkedHashMap.class,
+                                                                                   WeakHashMap.class);
+
   public static Maps instance() {
     return INSTANCE;
   }
@@ -368,8 +384,14 @@ public class Maps {
     }
     failIfEmpty(keys, () -> keysToLookForIsEmpty(placeholderForErrorMessages));
 
-    Set<K> notFound = getNotFoundKeys(actual, keys);
-    Set<K> notExpected = getNotExpectedKeys(actual, keys);
+    // Stream API avoided for performance reasons
+    Set<K> notFound = new LinkedHashSet<>();
+    Set<K> foundKeys = newKeySetWithSameKeyEquivalence(actual);
+    for (K expectedKey : keys) {
+      if (containsKey(actual, expectedKey)) foundKeys.add(expectedKey);
+      else notFound.add(expectedKey);
+    }
+    Set<K> notExpected = getNotExpectedKeys(actual, foundKeys, keys);
 
     if (!notFound.isEmpty() || !notExpected.isEmpty())
       throw failures.failure(info, shouldContainOnlyKeys(actual, keys, notFound, notExpected));
@@ -402,7 +424,25 @@ public class Maps {
     }
   }
 
-  private static <K> Set<K> getNotExpectedKeys(Map<K, ?> actual, K[] expectedKeys) {
+  /**
+   * Returns the keys of {@code actual} not matched by any of the given found keys, without copying {@code actual}.
+   * <p>
+   * {@code foundKeys} must hold the expected keys that {@code actual} contains, in a set sharing the key equivalence of
+   * {@code actual} (see {@link #newKeySetWithSameKeyEquivalence(Map)}), each found key is thus matched by exactly one key of
+   * {@code actual}. If it is not the case, {@code actual} relies on a custom key equivalence (e.g. a case-insensitive map)
+   * and we fall back to removing the expected keys from a clone of {@code actual}.
+   */
+  private static <K> Set<K> getNotExpectedKeys(Map<K, ?> actual, Set<K> foundKeys, K[] expectedKeys) {
+    Set<K> notExpected = new LinkedHashSet<>();
+    // each found key matches a distinct actual key, no need to look at actual keys when they are all matched
+    if (foundKeys.size() == actual.size() && hasKnownKeyEquivalence(actual)) return notExpected;
+    for (K key : actual.keySet()) {
+      if (!foundKeys.remove(key)) notExpected.add(key);
+    }
+    return foundKeys.isEmpty() ? notExpected : getNotExpectedKeysByRemoval(actual, expectedKeys);
+  }
+
+  private static <K> Set<K> getNotExpectedKeysByRemoval(Map<K, ?> actual, K[] expectedKeys) {
     // Stream API avoided for performance reasons
     try {
       Map<K, ?> clonedMap = clone(actual);
@@ -420,6 +460,17 @@ public class Maps {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static <K> Set<K> newKeySetWithSameKeyEquivalence(Map<K, ?> map) {
+    if (map instanceof SortedMap) return new TreeSet<>(((SortedMap<K, ?>) map).comparator());
+    if (map instanceof IdentityHashMap) return newSetFromMap(new IdentityHashMap<>());
+    return new HashSet<>();
+  }
+
+  private static boolean hasKnownKeyEquivalence(Map<?, ?> map) {
+    return map instanceof SortedMap || MAP_TYPES_WITH_KNOWN_KEY_EQUIVALENCE.contains(map.getClass());
+  }
+
   @SuppressWarnings("unchecked")
   private static <K, V> Map<K, V> clone(Map<K, V> map) throws NoSuchMethodException {
     if (isMultiValueMapAdapterInstance(map)) throw new IllegalArgumentException("Cannot clone MultiValueMapAdapter");
@@ -509,31 +560,33 @@ public class Maps {
     if (actual.isEmpty() && entries.length == 0) return;
     failIfEntriesIsEmptySinceActualIsNotEmpty(info, actual, entries);
 
-    Set<Entry<? extends K, ? extends V>> notFound = getNotFoundEntries(actual, entries, valueEquals);
-    Set<Entry<K, V>> notExpected = getNotExpectedEntries(actual, entries, valueEquals);
-
-    if (!(notFound.isEmpty() && notExpected.isEmpty()))
-      throw failures.failure(info, shouldContainOnly(actual, entries, notFound, notExpected));
-  }
-
-  private <K, V> Set<Entry<? extends K, ? extends V>> getNotFoundEntries(Map<K, V> actual,
-                                                                         Entry<? extends K, ? extends V>[] entries,
-                                                                         BiPredicate<? super V, ? super V> valueEquals) {
     // Stream API avoided for performance reasons
     Set<Entry<? extends K, ? extends V>> notFound = new LinkedHashSet<>();
+    Set<K> foundKeys = newKeySetWithSameKeyEquivalence(actual);
     for (Entry<? extends K, ? extends V> entry : entries) {
-      if (!containsEntry(actual, entry, valueEquals)) notFound.add(entry);
+      if (containsEntry(actual, entry, valueEquals)) foundKeys.add(entry.getKey());
+      else notFound.add(entry);
     }
-    return notFound;
+    Set<Entry<K, V>> notExpected = getNotExpectedEntries(actual, foundKeys, entries, valueEquals);
+
+    if (!(notFound.isEmpty() && notExpected.isEmpty()))
+      throw failures.failure(info, shouldContainOnly(actual, entries, notFound, notExpected));
   }
 
-  private <K, V> Set<Entry<K, V>> getNotExpectedEntries(Map<K, V> actual, Entry<? extends K, ? extends V>[] entries,
+  // see getNotExpectedKeys(Map, Set, Object[]), foundKeys are the keys of the expected entries contained in actual
+  private <K, V> Set<Entry<K, V>> getNotExpectedEntries(Map<K, V> actual, Set<K> foundKeys,
+                                                        Entry<? extends K, ? extends V>[] entries,
                                                         BiPredicate<? super V, ? super V> valueEquals) {
-    // Stream API avoided for performance reasons
     Set<Entry<K, V>> notExpected = new LinkedHashSet<>();
+    if (foundKeys.size() == actual.size() && hasKnownKeyEquivalence(actual)) return notExpected;
+    for (Entry<K, V> entry : actual.entrySet()) {
+      if (!foundKeys.remove(entry.getKey())) notExpected.add(entry(entry.getKey(), entry.getValue()));
+    }
+    if (foundKeys.isEmpty()) return notExpected;
+    // actual relies on a custom key equivalence
+    notExpected.clear();
     for (Entry<K, V> entry : mapWithoutExpectedEntries(actual, entries, valueEquals).entrySet()) {
-      MapEntry<K, V> mapEntry = entry(entry.getKey(), entry.getValue());
-      notExpected.add(mapEntry);
+      notExpected.add(entry(entry.getKey(), entry.getValue()));
     }
     return notExpected;
   }
@@ -569,6 +622,22 @@ public class Maps {
     failIfEntriesIsEmptySinceActualIsNotEmpty(info, actual, entries);
     assertHasSameSizeAs(info, actual, entries);
 
+    // single pass checking entries and their order, the difference is only computed if an entry does not match
+    int index = 0;
+    for (Entry<K, V> actualEntry : actual.entrySet()) {
+      Entry<? extends K, ? extends V> expectedEntry = entries[index];
+      if (!deepEquals(actualEntry.getKey(), expectedEntry.getKey())
+          || !areEqual(actualEntry.getValue(), expectedEntry.getValue(), valueEquals)) {
+        // throws unless actual is found to contain the expected entries in order once compared as before
+        failContainsExactly(info, actual, entries, valueEquals);
+        return;
+      }
+      index++;
+    }
+  }
+
+  private <K, V> void failContainsExactly(AssertionInfo info, Map<K, V> actual, Entry<? extends K, ? extends V>[] entries,
+                                          BiPredicate<? super V, ? super V> valueEquals) {
     Set<Entry<? extends K, ? extends V>> notFound = new LinkedHashSet<>();
     Set<Entry<? extends K, ? extends V>> notExpected = new LinkedHashSet<>();
 
@@ -577,10 +646,10 @@ public class Maps {
     if (notExpected.isEmpty() && notFound.isEmpty()) {
       // check entries order
       int index = 0;
-      for (K keyFromActual : actual.keySet()) {
-        if (!deepEquals(keyFromActual, entries[index].getKey())) {
-          Entry<K, V> actualEntry = entry(keyFromActual, actual.get(keyFromActual));
-          throw failures.failure(info, elementsDifferAtIndex(actualEntry, entries[index], index));
+      for (Entry<K, V> actualEntry : actual.entrySet()) {
+        if (!deepEquals(actualEntry.getKey(), entries[index].getKey())) {
+          throw failures.failure(info, elementsDifferAtIndex(entry(actualEntry.getKey(), actualEntry.getValue()),
+                                                             entries[index], index));
         }
         index++;
       }
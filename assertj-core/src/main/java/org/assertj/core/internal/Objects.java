@@ -71,6 +71,7 @@ import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.error.GroupTypeDescription;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -298,6 +299,9 @@ public class Objects {
   }
 
   private boolean isActualIn(Object actual, Iterable<?> values) {
+    if (values instanceof PreparedExpectation<?> expectation && comparisonStrategy.isConsistentWithLookupOf(expectation)) {
+      return expectation.contains(actual);
+    }
     for (Object value : values) {
       if (areEqual(actual, value)) {
         return true;
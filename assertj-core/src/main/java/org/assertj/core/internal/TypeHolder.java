@@ -24,12 +24,14 @@ import static org.assertj.core.util.introspection.ClassUtils.getAllInterfaces;
 import static org.assertj.core.util.introspection.ClassUtils.getAllSuperclasses;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.ClassNameComparator;
@@ -46,14 +48,24 @@ abstract class TypeHolder<T> {
   private static final Comparator<DualClass<?, ?>> DEFAULT_DUAL_CLASS_COMPARATOR = new DualClassComparator(ClassNameComparator.INSTANCE,
                                                                                                            ClassNameComparator.INSTANCE);
 
-  protected final Map<DualClass<?, ?>, T> typeHolder;
+  // marks the types resolved to no entity as the resolved entities cache does not support null values
+  private static final Object NO_ENTITY = new Object();
+
+  protected final Map<DualClass<?, ?>, T> typeHolder = new HashMap<>();
+  // the actual types of the registered dual classes, to find the relevant class of a type without going through them all
+  private final Set<Class<?>> registeredTypes = new HashSet<>();
+  // entities are looked up for every value compared, the resolved ones are cached until a new entity is registered,
+  // the cache is concurrent as the recursive comparison can compare values in parallel.
+  private final Map<DualClass<?, ?>, Object> resolvedEntities = new ConcurrentHashMap<>();
+  // the entities are described in this order
+  private final Comparator<DualClass<?, ?>> comparator;
 
   public TypeHolder() {
     this(DEFAULT_DUAL_CLASS_COMPARATOR);
   }
 
   public TypeHolder(Comparator<DualClass<?, ?>> comparator) {
-    typeHolder = new TreeMap<>(requireNonNull(comparator, "Comparator must not be null"));
+    this.comparator = requireNonNull(comparator, "Comparator must not be null");
   }
 
   /**
@@ -88,10 +100,17 @@ abstract class TypeHolder<T> {
    *                   This may be {@code null} to find the entity bound only to the {@code clazz}
    * @return the most relevant entity, or {@code null} if on entity could be found
    */
+  @SuppressWarnings("unchecked")
   public T get(Class<?> clazz, Class<?> otherClazz) {
+    Object entity = resolvedEntities.computeIfAbsent(dualClass(clazz, otherClazz), unused -> resolve(clazz, otherClazz));
+    return entity == NO_ENTITY ? null : (T) entity;
+  }
+
+  private Object resolve(Class<?> clazz, Class<?> otherClazz) {
     Class<?> relevantType = getRelevantClass(clazz);
-    if (relevantType == null) return null;
-    return typeHolder.get(dualClass(relevantType, getRelevantClass(relevantType, otherClazz)));
+    if (relevantType == null) return NO_ENTITY;
+    T entity = typeHolder.get(dualClass(relevantType, getRelevantClass(relevantType, otherClazz)));
+    return entity == null ? NO_ENTITY : entity;
   }
 
   /**
@@ -114,6 +133,8 @@ abstract class TypeHolder<T> {
    */
   public void put(Class<?> clazz, Class<?> otherClazz, T entity) {
     typeHolder.put(dualClass(clazz, otherClazz), entity);
+    registeredTypes.add(clazz);
+    resolvedEntities.clear();
   }
 
   /**
@@ -149,6 +170,8 @@ abstract class TypeHolder<T> {
    */
   public void clear() {
     typeHolder.clear();
+    registeredTypes.clear();
+    resolvedEntities.clear();
   }
 
   /**
@@ -157,7 +180,7 @@ abstract class TypeHolder<T> {
    * @return sequence of field-entity pairs
    */
   public Stream<Entry<DualClass<?, ?>, T>> entityByTypes() {
-    return typeHolder.entrySet().stream();
+    return typeHolder.entrySet().stream().sorted(Entry.comparingByKey(comparator));
   }
 
   /**
@@ -175,14 +198,13 @@ abstract class TypeHolder<T> {
    * @return the most relevant class.
    */
   private Class<?> getRelevantClass(Class<?> cls) {
-    Set<DualClass<?, ?>> dualClasses = typeHolder.keySet();
-    if (dualClasses.stream().anyMatch(c -> c.actual() == cls)) return cls;
+    if (registeredTypes.contains(cls)) return cls;
 
     for (Class<?> superClass : getAllSuperclasses(cls)) {
-      if (dualClasses.stream().anyMatch(c -> c.actual() == superClass)) return superClass;
+      if (registeredTypes.contains(superClass)) return superClass;
     }
     for (Class<?> interfaceClass : getAllInterfaces(cls)) {
-      if (dualClasses.stream().anyMatch(c -> c.actual() == interfaceClass)) return interfaceClass;
+      if (registeredTypes.contains(interfaceClass)) return interfaceClass;
     }
     return null;
   }
@@ -190,17 +212,13 @@ abstract class TypeHolder<T> {
   private Class<?> getRelevantClass(Class<?> cls, Class<?> otherCls) {
     if (otherCls == null) return null;
 
-    Set<DualClass<?, ?>> registeredDualClasses = typeHolder.keySet();
-    DualClass<?, ?> dualClass = dualClass(cls, otherCls);
-    if (registeredDualClasses.stream().anyMatch(dualClass::equals)) return otherCls;
+    if (typeHolder.containsKey(dualClass(cls, otherCls))) return otherCls;
 
     for (Class<?> superClass : getAllSuperclasses(otherCls)) {
-      DualClass<?, ?> dualWithSuperClass = dualClass(cls, superClass);
-      if (registeredDualClasses.stream().anyMatch(dualWithSuperClass::equals)) return superClass;
+      if (typeHolder.containsKey(dualClass(cls, superClass))) return superClass;
     }
     for (Class<?> interfaceClass : getAllInterfaces(otherCls)) {
-      DualClass<?, ?> dualWithInterface = dualClass(cls, interfaceClass);
-      if (registeredDualClasses.stream().anyMatch(dualWithInterface::equals)) return interfaceClass;
+      if (typeHolder.containsKey(dualClass(cls, interfaceClass))) return interfaceClass;
     }
     return null;
   }
@@ -220,9 +238,8 @@ abstract class TypeHolder<T> {
 
   @Override
   public String toString() {
-    List<String> registeredEntitiesDescription = typeHolder.entrySet().stream()
-                                                           .map(TypeHolder::formatRegisteredEntity)
-                                                           .collect(toList());
+    List<String> registeredEntitiesDescription = entityByTypes().map(TypeHolder::formatRegisteredEntity)
+                                                                .collect(toList());
     return "{%s}".formatted(join(registeredEntitiesDescription).with(", "));
   }
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.junit.jupiter.api.Test;
+
+class CombinedRegexesTest {
+
+  @Test
+  void should_match_field_locations_matched_by_any_of_the_regexes() {
+    // GIVEN
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(list(Pattern.compile("id|version"), Pattern.compile(".*\\.name")));
+    // WHEN/THEN
+    then(combinedRegexes.isCombined()).isTrue();
+    then(combinedRegexes.anyMatches(new FieldLocation("version"))).isTrue();
+    then(combinedRegexes.anyMatches(new FieldLocation("person.name.first"))).isTrue();
+    then(combinedRegexes.anyMatches(new FieldLocation("person.age"))).isFalse();
+    then(combinedRegexes.anyMatches(new FieldLocation("idx"))).isFalse();
+  }
+
+  @Test
+  void should_not_leak_inline_flags_to_the_other_regexes() {
+    // GIVEN
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(list(Pattern.compile("(?i)id"), Pattern.compile("name")));
+    // WHEN/THEN
+    then(combinedRegexes.anyMatches(new FieldLocation("ID"))).isTrue();
+    then(combinedRegexes.anyMatches(new FieldLocation("NAME"))).isFalse();
+  }
+
+  @Test
+  void should_not_combine_regexes_with_back_references() {
+    // GIVEN
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(list(Pattern.compile("name"), Pattern.compile("(a)\\1")));
+    // WHEN/THEN
+    then(combinedRegexes.isCombined()).isFalse();
+    then(combinedRegexes.anyMatches(new FieldLocation("aa"))).isTrue();
+    then(combinedRegexes.anyMatches(new FieldLocation("ab"))).isFalse();
+  }
+
+  @Test
+  void should_not_combine_regexes_compiled_with_flags() {
+    // GIVEN
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(list(Pattern.compile("name"),
+                                                                   Pattern.compile("id", Pattern.CASE_INSENSITIVE)));
+    // WHEN/THEN
+    then(combinedRegexes.isCombined()).isFalse();
+    then(combinedRegexes.anyMatches(new FieldLocation("ID"))).isTrue();
+  }
+
+  @Test
+  void should_not_combine_regexes_declaring_the_same_named_group() {
+    // GIVEN
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(list(Pattern.compile("(?<f>name)"), Pattern.compile("(?<f>id)")));
+    // WHEN/THEN
+    then(combinedRegexes.isCombined()).isFalse();
+    then(combinedRegexes.anyMatches(new FieldLocation("id"))).isTrue();
+  }
+
+  @Test
+  void should_tell_whether_it_combines_the_given_regexes() {
+    // GIVEN
+    List<Pattern> regexes = list(Pattern.compile("name"));
+    CombinedRegexes combinedRegexes = CombinedRegexes.combine(regexes);
+    // WHEN
+    regexes.add(Pattern.compile("id"));
+    // THEN
+    then(combinedRegexes.combines(regexes)).isFalse();
+    then(combinedRegexes.combines(list(regexes.get(0)))).isTrue();
+  }
+
+}
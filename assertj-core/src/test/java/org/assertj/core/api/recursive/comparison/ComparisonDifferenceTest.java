@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.ComparisonDifference.lazyComparisonDifference;
+import static org.assertj.core.api.recursive.comparison.ComparisonDifference.maxLengthForValueDescription;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
+
+class ComparisonDifferenceTest {
+
+  @Test
+  void should_only_resolve_the_additional_information_and_template_when_describing_the_difference() {
+    // GIVEN
+    AtomicInteger resolutions = new AtomicInteger();
+    ComparisonDifference comparisonDifference = lazyComparisonDifference(new DualValue(list("name"), "John", "Jack"),
+                                                                         () -> "info #" + resolutions.incrementAndGet(),
+                                                                         () -> {
+                                                                           resolutions.incrementAndGet();
+                                                                           return null;
+                                                                         });
+    then(resolutions).hasValue(0);
+    // WHEN
+    String description = comparisonDifference.multiLineDescription();
+    // THEN
+    then(description).endsWith("info #1");
+    then(comparisonDifference.getTemplate()).isEqualTo(ComparisonDifference.DEFAULT_TEMPLATE);
+    then(comparisonDifference.getAdditionalInformation()).contains("info #1");
+    then(resolutions).hasValue(2);
+  }
+
+  @Test
+  void should_not_render_values_when_the_recursive_comparison_is_used_as_a_predicate() {
+    // GIVEN
+    CountingRepresentation representation = new CountingRepresentation();
+    RecursiveComparator recursiveComparator = new RecursiveComparator(new RecursiveComparisonConfiguration(representation));
+    WithMap actual = new WithMap(Map.of("a", 1));
+    WithMap expected = new WithMap(Map.of("b", 1));
+    // WHEN
+    int comparison = recursiveComparator.compare(actual, expected);
+    // THEN
+    then(comparison).isNotZero();
+    then(representation.renderedValues).hasValue(0);
+  }
+
+  @Test
+  void should_truncate_values_descriptions_longer_than_the_maximum_length() {
+    // GIVEN
+    String longValueDescription = "a".repeat(maxLengthForValueDescription() + 5);
+    // WHEN
+    String truncated = ComparisonDifference.truncate(longValueDescription);
+    // THEN
+    then(truncated).isEqualTo("a".repeat(maxLengthForValueDescription()) + "... (5 more characters)");
+  }
+
+  @Test
+  void should_not_truncate_values_descriptions_within_the_maximum_length() {
+    // GIVEN
+    String valueDescription = "a".repeat(maxLengthForValueDescription());
+    // WHEN
+    String truncated = ComparisonDifference.truncate(valueDescription);
+    // THEN
+    then(truncated).isSameAs(valueDescription);
+  }
+
+  @Test
+  void should_bound_values_descriptions_by_the_representation_settings() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    StandardRepresentation.setMaxLengthForSingleLineDescription(5);
+    try {
+      // WHEN
+      String truncated = ComparisonDifference.truncate("a".repeat(12));
+      // THEN
+      then(truncated).isEqualTo("a".repeat(10) + "... (2 more characters)");
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
+
+  @Test
+  void should_not_retain_the_description_suppliers_of_the_returned_differences() {
+    // GIVEN
+    WithMap actual = new WithMap(Map.of("a", 1));
+    WithMap expected = new WithMap(Map.of("b", 1));
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                                new RecursiveComparisonConfiguration());
+    // THEN
+    then(differences).singleElement()
+                     .hasFieldOrPropertyWithValue("additionalInformationSupplier", null)
+                     .hasFieldOrPropertyWithValue("templateSupplier", null);
+  }
+
+  @Test
+  void should_not_resolve_lazy_differences_when_compared() {
+    // GIVEN
+    AtomicInteger resolutions = new AtomicInteger();
+    DualValue dualValue = new DualValue(list("name"), "John", "Jack");
+    ComparisonDifference comparisonDifference = lazyComparisonDifference(dualValue, () -> "info #" + resolutions.incrementAndGet(),
+                                                                         () -> null);
+    ComparisonDifference other = lazyComparisonDifference(dualValue, () -> "info #" + resolutions.incrementAndGet(),
+                                                          () -> null);
+    // WHEN
+    comparisonDifference.equals(other);
+    comparisonDifference.hashCode();
+    // THEN
+    then(resolutions).hasValue(0);
+  }
+
+  record WithMap(Map<String, Integer> map) {
+  }
+
+  static class CountingRepresentation extends StandardRepresentation {
+    final AtomicInteger renderedValues = new AtomicInteger();
+
+    @Override
+    public String toStringOf(Object object) {
+      renderedValues.incrementAndGet();
+      return super.toStringOf(object);
+    }
+  }
+}
@@ -18,6 +18,7 @@ package org.assertj.core.api.recursive.comparison;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.RandomUtils;
@@ -52,11 +53,10 @@ class DualValueDequeTest {
     dualValueDeque.addFirst(dualValueC);
     dualValueDeque.add(dualValueD);
     dualValueDeque.addLast(dualValueE);
-    dualValueDeque.add(1, dualValueA);
+    dualValueDeque.push(dualValueA);
     dualValueDeque.addAll(list(dualValueA, dualValueB, dualValueC));
-    dualValueDeque.addAll(0, list(dualValueA, dualValueB, dualValueC));
     // THEN
-    BDDAssertions.then(dualValueDeque).containsExactly(dualValueB, dualValueB, dualValueD, dualValueE, dualValueB);
+    BDDAssertions.then(dualValueDeque).containsExactly(dualValueB, dualValueD, dualValueE, dualValueB);
   }
 
   @Test
@@ -75,11 +75,10 @@ class DualValueDequeTest {
     dualValueDeque.addFirst(dualValueC);
     dualValueDeque.add(dualValueD);
     dualValueDeque.addLast(dualValueE);
-    dualValueDeque.add(1, dualValueA);
+    dualValueDeque.push(dualValueA);
     dualValueDeque.addAll(list(dualValueA, dualValueB, dualValueC));
-    dualValueDeque.addAll(0, list(dualValueA, dualValueB, dualValueC));
     // THEN
-    BDDAssertions.then(dualValueDeque).containsExactly(dualValueB, dualValueB, dualValueD, dualValueE, dualValueB);
+    BDDAssertions.then(dualValueDeque).containsExactly(dualValueB, dualValueD, dualValueE, dualValueB);
   }
 
   @Test
@@ -97,13 +96,32 @@ class DualValueDequeTest {
     dualValueDeque.addFirst(dualValueC);
     dualValueDeque.add(dualValueD);
     dualValueDeque.addLast(dualValueE);
-    dualValueDeque.add(1, dualValueA);
+    dualValueDeque.push(dualValueA);
     dualValueDeque.addAll(list(dualValueA, dualValueB, dualValueC));
-    dualValueDeque.addAll(0, list(dualValueA, dualValueB, dualValueC));
     // THEN
-    BDDAssertions.then(dualValueDeque).containsExactly(dualValueA, dualValueB, dualValueC, dualValueC, dualValueA, dualValueA,
-                                                       dualValueB,
-                                                       dualValueD, dualValueE, dualValueA, dualValueB, dualValueC);
+    BDDAssertions.then(dualValueDeque).containsExactly(dualValueA, dualValueC, dualValueA, dualValueB, dualValueD, dualValueE,
+                                                       dualValueA, dualValueB, dualValueC);
+  }
+
+  @Test
+  void should_evaluate_each_added_dual_value_once() {
+    // GIVEN
+    AtomicInteger evaluations = new AtomicInteger();
+    RecursiveComparisonConfiguration countingConfiguration = new RecursiveComparisonConfiguration() {
+      @Override
+      public boolean shouldNotEvaluate(DualValue dualValue) {
+        evaluations.incrementAndGet();
+        return super.shouldNotEvaluate(dualValue);
+      }
+    };
+    DualValueDeque dualValueDeque = new DualValueDeque(countingConfiguration);
+    // WHEN
+    dualValueDeque.add(dualValue("A", "A"));
+    dualValueDeque.addLast(dualValue("B", "B"));
+    dualValueDeque.addFirst(dualValue("C", "C"));
+    dualValueDeque.addAll(list(dualValue("D", "D"), dualValue("E", "E")));
+    // THEN
+    BDDAssertions.then(evaluations).hasValue(5);
   }
 
   private static DualValue dualValue(String value1, String value2) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+import org.assertj.core.api.recursive.AbstractRecursiveOperationConfiguration;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonConfigurationCopyTest {
+
+  // recombined lazily from the ignored fields regexes
+  private static final String DERIVED_FIELD = "combinedIgnoredFieldsRegexes";
+
+  @Test
+  void should_copy_every_setting_but_the_introspection_strategy() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = fullyPopulatedConfiguration();
+    RecursiveComparisonIntrospectionStrategy introspectionStrategy = new ComparingProperties();
+    // WHEN
+    RecursiveComparisonConfiguration copy = new RecursiveComparisonConfiguration(configuration, introspectionStrategy);
+    // THEN
+    then(copy.getIntrospectionStrategy()).isSameAs(introspectionStrategy);
+    then(copy).usingRecursiveComparison()
+              .ignoringFields("introspectionStrategy", DERIVED_FIELD)
+              .isEqualTo(configuration);
+  }
+
+  @Test
+  void should_not_change_the_copied_configuration_when_changing_the_copy() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = fullyPopulatedConfiguration();
+    RecursiveComparisonConfiguration copy = new RecursiveComparisonConfiguration(configuration, new ComparingProperties());
+    // WHEN
+    copy.ignoreFields("other");
+    copy.compareOnlyFields("other");
+    copy.ignoreCollectionOrderInFields("other");
+    copy.ignoreOverriddenEqualsForFields("other");
+    // THEN
+    then(configuration.getIgnoredFields()).doesNotContain("other");
+    then(configuration.getComparedFields()).doesNotContain(new FieldLocation("other"));
+    then(configuration.getIgnoredCollectionOrderInFields()).doesNotContain("other");
+    then(configuration.getIgnoredOverriddenEqualsForFields()).doesNotContain("other");
+  }
+
+  // guards the copy test against settings added later on but not populated, the copy could miss them unnoticed
+  @Test
+  void should_populate_every_setting() throws IllegalAccessException {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = fullyPopulatedConfiguration();
+    RecursiveComparisonConfiguration defaultConfiguration = new RecursiveComparisonConfiguration();
+    // WHEN/THEN
+    for (Class<?> type : list(RecursiveComparisonConfiguration.class, AbstractRecursiveOperationConfiguration.class)) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.getName().equals(DERIVED_FIELD)) continue;
+        field.setAccessible(true);
+        then(Objects.equals(field.get(configuration), field.get(defaultConfiguration))).as("%s is not populated", field.getName())
+                                                                                      .isFalse();
+      }
+    }
+  }
+
+  private static RecursiveComparisonConfiguration fullyPopulatedConfiguration() {
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration(UNICODE_REPRESENTATION);
+    configuration.strictTypeChecking(true);
+    configuration.setIgnoreAllActualNullFields(true);
+    configuration.setIgnoreAllActualEmptyOptionalFields(true);
+    configuration.setIgnoreAllExpectedNullFields(true);
+    configuration.setIgnoreNonExistentComparedFields(true);
+    configuration.ignoreFields("foo");
+    configuration.ignoreFieldsMatchingRegexes("f.*");
+    configuration.ignoreFieldsOfTypes(Long.class);
+    configuration.ignoreFieldsOfTypesMatchingRegexes("java\\.time\\..*");
+    configuration.compareOnlyFields("bar");
+    configuration.compareOnlyFieldsOfTypes(String.class);
+    configuration.registerFieldLocationToCompareBecauseOfTypesToCompare(new FieldLocation("baz"));
+    configuration.ignoreOverriddenEqualsForTypes(Integer.class);
+    configuration.ignoreOverriddenEqualsForFields("foo");
+    configuration.ignoreOverriddenEqualsForFieldsMatchingRegexes("b.*");
+    configuration.useOverriddenEquals();
+    configuration.ignoreCollectionOrder(true);
+    configuration.ignoreArrayOrder(true);
+    configuration.ignoreCollectionOrderInFields("bar");
+    configuration.ignoreCollectionOrderInFieldsMatchingRegexes("b.*");
+    configuration.treatNullAndEmptyIterablesAsEqual();
+    configuration.registerComparatorForType((Double d1, Double d2) -> 0, Double.class);
+    configuration.registerComparatorForFields((String s1, String s2) -> 0, "foo");
+    configuration.registerErrorMessageForType("type message", String.class);
+    configuration.registerErrorMessageForFields("field message", "foo");
+    configuration.setIntrospectionStrategy(new ComparingFields());
+    configuration.allowComparingEnumAgainstString(true);
+    configuration.inParallel(true);
+    configuration.setMaxDifferences(10);
+    configuration.setMaxDepth(5);
+    return configuration;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
+
+import org.junit.jupiter.api.Test;
+
+class StructuralFingerprintTest {
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_ignore_hash_code_of_elements_compared_field_by_field() {
+    // GIVEN
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    // WHEN
+    int actualFingerprint = fingerprint.of(new Entity(1, "Luke", Color.RED));
+    int expectedFingerprint = fingerprint.of(new Entity(1, "Luke", Color.RED));
+    // THEN
+    then(actualFingerprint).isEqualTo(expectedFingerprint);
+  }
+
+  @Test
+  void should_not_use_ignored_fields() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("id");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    // WHEN
+    int actualFingerprint = fingerprint.of(new Entity(1, "Luke", Color.RED));
+    int expectedFingerprint = fingerprint.of(new Entity(2, "Luke", Color.RED));
+    // THEN
+    then(actualFingerprint).isEqualTo(expectedFingerprint);
+  }
+
+  @Test
+  void should_use_compared_fields_values() {
+    // GIVEN
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    // WHEN
+    int actualFingerprint = fingerprint.of(new Entity(1, "Luke", Color.RED));
+    int expectedFingerprint = fingerprint.of(new Entity(1, "Leia", Color.RED));
+    // THEN
+    then(actualFingerprint).isNotEqualTo(expectedFingerprint);
+  }
+
+  @Test
+  void should_not_use_fields_compared_with_a_custom_comparator() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForFields(CASE_INSENSITIVE_ORDER, "name");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    // WHEN
+    int actualFingerprint = fingerprint.of(new Entity(1, "Luke", Color.RED));
+    int expectedFingerprint = fingerprint.of(new Entity(1, "LUKE", Color.RED));
+    // THEN
+    then(actualFingerprint).isEqualTo(expectedFingerprint);
+  }
+
+  @Test
+  void should_give_enums_and_their_names_the_same_fingerprint() {
+    // GIVEN
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    // WHEN
+    int actualFingerprint = fingerprint.of(Color.RED);
+    int expectedFingerprint = fingerprint.of("RED");
+    // THEN
+    then(actualFingerprint).isEqualTo(expectedFingerprint);
+  }
+
+  @Test
+  void should_fall_back_to_hash_code_when_ignoring_actual_null_fields() {
+    // GIVEN
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration, rootFieldLocation());
+    Entity entity = new Entity(1, "Luke", Color.RED);
+    // WHEN
+    int entityFingerprint = fingerprint.of(entity);
+    // THEN
+    then(entityFingerprint).isEqualTo(entity.hashCode());
+  }
+
+  enum Color {
+    RED
+  }
+
+  static class Entity {
+    final int id;
+    final String name;
+    final Color color;
+
+    Entity(int id, String name, Color color) {
+      this.id = id;
+      this.name = name;
+      this.color = color;
+    }
+  }
+
+}
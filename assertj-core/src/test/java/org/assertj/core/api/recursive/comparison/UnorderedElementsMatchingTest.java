@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+
+class UnorderedElementsMatchingTest {
+
+  @Test
+  void should_match_all_elements_when_a_greedy_search_would_not() {
+    // GIVEN
+    // "a*" matches both "ab" and "ac" but "ac" only matches "ac", a greedy search would match "a*" with "ac" first.
+    BiPredicate<Object, Object> matches = (actual, expected) -> expected.equals("a*") || actual.equals(expected);
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(list("ac", "ab"), list("a*", "ac"), element -> 0,
+                                                                       matches);
+    // WHEN
+    List<Object> unmatchedExpectedElements = matching.unmatchedExpectedElements();
+    // THEN
+    then(unmatchedExpectedElements).isEmpty();
+  }
+
+  @Test
+  void should_match_each_actual_element_only_once() {
+    // GIVEN
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(list("a", "b"), list("a", "a"), Object::hashCode,
+                                                                       Object::equals);
+    // WHEN
+    List<Object> unmatchedExpectedElements = matching.unmatchedExpectedElements();
+    // THEN
+    then(unmatchedExpectedElements).containsExactly("a");
+  }
+
+  @Test
+  void should_report_unmatched_expected_elements_in_their_order() {
+    // GIVEN
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(list("b1", "a1", "c1"), list("d2", "a2", "e2", "b2"),
+                                                                       element -> 0,
+                                                                       UnorderedElementsMatchingTest::haveSameFirstLetter);
+    // WHEN
+    List<Object> unmatchedExpectedElements = matching.unmatchedExpectedElements();
+    // THEN
+    then(unmatchedExpectedElements).containsExactly("d2", "e2");
+  }
+
+  @Test
+  void should_only_compare_elements_with_the_same_fingerprint_when_they_match() {
+    // GIVEN
+    AtomicInteger comparisons = new AtomicInteger();
+    BiPredicate<Object, Object> matches = (actual, expected) -> comparisons.incrementAndGet() > 0 && actual.equals(expected);
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(list("a", "b", "c", "d"), list("d", "c", "b", "a"),
+                                                                       Object::hashCode, matches);
+    // WHEN
+    List<Object> unmatchedExpectedElements = matching.unmatchedExpectedElements();
+    // THEN
+    then(unmatchedExpectedElements).isEmpty();
+    then(comparisons).hasValue(4);
+  }
+
+  @Test
+  void should_compare_each_pair_of_elements_at_most_once() {
+    // GIVEN
+    AtomicInteger comparisons = new AtomicInteger();
+    BiPredicate<Object, Object> matches = (actual, expected) -> comparisons.incrementAndGet() > 0 && actual.equals(expected);
+    UnorderedElementsMatching matching = new UnorderedElementsMatching(list("a", "b", "c"), list("x", "y", "z"),
+                                                                       element -> 0, matches);
+    // WHEN
+    List<Object> unmatchedExpectedElements = matching.unmatchedExpectedElements();
+    // THEN
+    then(unmatchedExpectedElements).containsExactly("x", "y", "z");
+    then(comparisons.get()).isLessThanOrEqualTo(9);
+  }
+
+  private static boolean haveSameFirstLetter(Object actual, Object expected) {
+    return actual.toString().charAt(0) == expected.toString().charAt(0);
+  }
+
+}
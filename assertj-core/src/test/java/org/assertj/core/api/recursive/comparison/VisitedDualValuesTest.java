@@ -67,4 +67,99 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_same_values_at_another_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("neighbour"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesElsewhere = new DualValue(list("neighbour", "neighbour"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesElsewhere);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    BDDAssertions.then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_match_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(new DualValue(list(""), list("abc"), list("abc")));
+    DualValue equalValues = new DualValue(list(""), list("abc"), list("abc"));
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(equalValues);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
+
+  @Test
+  void should_find_the_dual_values_visited_before_comparing_in_parallel() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("neighbour"), new Object(), new Object());
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    VisitedDualValues visitedInParallel = visitedDualValues.visitedInParallel();
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedInParallel.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+  }
+
+  @Test
+  void should_only_add_the_dual_values_visited_in_parallel_when_asked_to() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    VisitedDualValues visitedInParallel = visitedDualValues.visitedInParallel();
+    DualValue dualValue = new DualValue(list("neighbour"), new Object(), new Object());
+    visitedInParallel.registerVisitedDualValue(dualValue);
+    then(visitedDualValues.registeredComparisonDifferencesOf(dualValue)).isEmpty();
+    // WHEN
+    visitedDualValues.addAll(visitedInParallel);
+    // THEN
+    then(visitedDualValues.registeredComparisonDifferencesOf(dualValue)).isPresent();
+  }
+
+  @Test
+  void should_detect_values_visited_in_parallel_and_looked_up_by_another_parallel_comparison() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    VisitedDualValues visitedInParallel1 = visitedDualValues.visitedInParallel();
+    VisitedDualValues visitedInParallel2 = visitedDualValues.visitedInParallel();
+    // java.lang values can't cycle and thus are not tracked
+    List<String> actual = list("abc");
+    List<String> expected = list("abc");
+    visitedInParallel1.registeredComparisonDifferencesOf(new DualValue(list("[0]"), actual, expected));
+    visitedInParallel1.registerVisitedDualValue(new DualValue(list("[0]"), actual, expected));
+    visitedInParallel2.registeredComparisonDifferencesOf(new DualValue(list("[1]"), actual, expected));
+    // WHEN
+    boolean someVisitedValuesAreShared = VisitedDualValues.someVisitedValuesAreShared(list(visitedInParallel1,
+                                                                                          visitedInParallel2));
+    // THEN
+    then(someVisitedValuesAreShared).isTrue();
+  }
+
+  @Test
+  void should_not_detect_shared_values_when_parallel_comparisons_visited_different_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    VisitedDualValues visitedInParallel1 = visitedDualValues.visitedInParallel();
+    VisitedDualValues visitedInParallel2 = visitedDualValues.visitedInParallel();
+    DualValue dualValue1 = new DualValue(list("[0]"), list("abc"), list("abc"));
+    visitedInParallel1.registeredComparisonDifferencesOf(dualValue1);
+    visitedInParallel1.registerVisitedDualValue(dualValue1);
+    DualValue dualValue2 = new DualValue(list("[1]"), list("abc"), list("abc"));
+    visitedInParallel2.registeredComparisonDifferencesOf(dualValue2);
+    visitedInParallel2.registerVisitedDualValue(dualValue2);
+    // WHEN
+    boolean someVisitedValuesAreShared = VisitedDualValues.someVisitedValuesAreShared(list(visitedInParallel1,
+                                                                                          visitedInParallel2));
+    // THEN
+    then(someVisitedValuesAreShared).isFalse();
+  }
 }
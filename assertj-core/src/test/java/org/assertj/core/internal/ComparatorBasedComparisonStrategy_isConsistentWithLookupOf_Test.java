@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComparatorBasedComparisonStrategy#isConsistentWithLookupOf(Collection)}.
+ */
+class ComparatorBasedComparisonStrategy_isConsistentWithLookupOf_Test extends AbstractTest_ComparatorBasedComparisonStrategy {
+
+  @Test
+  void should_return_true_for_sorted_set_using_the_same_comparator() {
+    // GIVEN
+    TreeSet<String> hobbits = new TreeSet<>(caseInsensitiveStringComparator);
+    // WHEN/THEN
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(hobbits)).isTrue();
+  }
+
+  @Test
+  void should_return_true_for_keys_of_sorted_map_using_the_same_comparator() {
+    // GIVEN
+    TreeMap<String, String> hobbits = new TreeMap<>(caseInsensitiveStringComparator);
+    // WHEN/THEN
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(hobbits.keySet())).isTrue();
+  }
+
+  @Test
+  void should_return_false_for_sorted_set_using_another_comparator() {
+    // GIVEN
+    TreeSet<String> hobbits = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    // WHEN/THEN
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(hobbits)).isFalse();
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(new TreeSet<>())).isFalse();
+  }
+
+  @Test
+  void should_return_false_for_unsorted_collections() {
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(new HashSet<>())).isFalse();
+    then(caseInsensitiveComparisonStrategy.isConsistentWithLookupOf(List.of())).isFalse();
+  }
+
+  @Test
+  void should_look_value_up_in_sorted_set_using_the_same_comparator() {
+    // GIVEN
+    TreeSet<String> hobbits = new TreeSet<>(caseInsensitiveStringComparator);
+    hobbits.addAll(List.of("Merry", "Frodo", "Sam"));
+    // WHEN/THEN
+    then(caseInsensitiveComparisonStrategy.iterableContains(hobbits, "SAM")).isTrue();
+    then(caseInsensitiveComparisonStrategy.iterableContains(hobbits, "Pippin")).isFalse();
+  }
+
+}
@@ -15,15 +15,18 @@
  */
 package org.assertj.core.internal;
 
-import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.junit.jupiter.api.Test;
@@ -39,16 +42,96 @@ class ConfigurableRecursiveFieldByFieldComparator_Test {
     RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
     configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
                                                                                                   recursiveComparisonDifferenceCalculator);
-    given(recursiveComparisonDifferenceCalculator.determineDifferences(any(), any(), any())).willReturn(emptyList());
+    given(recursiveComparisonDifferenceCalculator.areEqual(any(), any(), any())).willReturn(true);
     String actual = "foo";
     String other = "bar";
     // WHEN
     int compare = configurableRecursiveFieldByFieldComparator.compare(actual, other);
     // THEN
-    verify(recursiveComparisonDifferenceCalculator).determineDifferences(actual, other, recursiveComparisonConfiguration);
+    verify(recursiveComparisonDifferenceCalculator).areEqual(actual, other, recursiveComparisonConfiguration);
     then(compare).isZero();
   }
 
+  @Test
+  void should_compare_the_same_pair_of_values_only_once_when_memoizing_results() {
+    // GIVEN
+    RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = mock(RecursiveComparisonDifferenceCalculator.class);
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
+                                                                                                  recursiveComparisonDifferenceCalculator).memoizingResults();
+    given(recursiveComparisonDifferenceCalculator.areEqual(any(), any(), any())).willReturn(false);
+    String actual = "foo";
+    String other = "bar";
+    // WHEN
+    int compare1 = configurableRecursiveFieldByFieldComparator.compare(actual, other);
+    int compare2 = configurableRecursiveFieldByFieldComparator.compare(actual, other);
+    int reversedCompare = configurableRecursiveFieldByFieldComparator.compare(other, actual);
+    // THEN
+    verify(recursiveComparisonDifferenceCalculator).areEqual(actual, other, recursiveComparisonConfiguration);
+    verify(recursiveComparisonDifferenceCalculator).areEqual(other, actual, recursiveComparisonConfiguration);
+    then(compare1).isNotZero();
+    then(compare2).isNotZero();
+    then(reversedCompare).isNotZero();
+  }
+
+  @Test
+  void should_compare_equal_but_not_identical_pairs_of_values_again_when_memoizing_results() {
+    // GIVEN
+    RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = mock(RecursiveComparisonDifferenceCalculator.class);
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
+                                                                                                  recursiveComparisonDifferenceCalculator).memoizingResults();
+    given(recursiveComparisonDifferenceCalculator.areEqual(any(), any(), any())).willReturn(true);
+    String actual = "foo";
+    // WHEN
+    configurableRecursiveFieldByFieldComparator.compare(actual, new String("foo"));
+    configurableRecursiveFieldByFieldComparator.compare(actual, new String("foo"));
+    // THEN
+    verify(recursiveComparisonDifferenceCalculator, times(2)).areEqual(any(), any(), any());
+  }
+
+  @Test
+  void should_compare_the_same_pair_of_values_again_when_not_memoizing_results() {
+    // GIVEN
+    RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = mock(RecursiveComparisonDifferenceCalculator.class);
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
+                                                                                                  recursiveComparisonDifferenceCalculator);
+    configurableRecursiveFieldByFieldComparator.memoizingResults().compare("foo", "bar");
+    // WHEN
+    configurableRecursiveFieldByFieldComparator.compare("foo", "bar");
+    configurableRecursiveFieldByFieldComparator.compare("foo", "bar");
+    // THEN
+    verify(recursiveComparisonDifferenceCalculator, times(3)).areEqual("foo", "bar", recursiveComparisonConfiguration);
+  }
+
+  @Test
+  void should_memoize_recursive_comparisons_of_comparison_strategies_using_a_recursive_comparator() {
+    // GIVEN
+    configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(new RecursiveComparisonConfiguration());
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(configurableRecursiveFieldByFieldComparator,
+                                                                                  "recursive comparator");
+    // WHEN
+    ComparisonStrategy memoizingComparisonStrategy = ConfigurableRecursiveFieldByFieldComparator.memoizingRecursiveComparisonsOf(comparisonStrategy);
+    // THEN
+    then(memoizingComparisonStrategy).isNotSameAs(comparisonStrategy)
+                                     .isInstanceOf(ComparatorBasedComparisonStrategy.class);
+    ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy = (ComparatorBasedComparisonStrategy) memoizingComparisonStrategy;
+    then(comparatorBasedComparisonStrategy.getComparator()).isNotSameAs(configurableRecursiveFieldByFieldComparator)
+                                                           .isEqualTo(configurableRecursiveFieldByFieldComparator);
+    then(comparatorBasedComparisonStrategy.getComparatorDescription()).isEqualTo("recursive comparator");
+  }
+
+  @Test
+  void should_not_change_comparison_strategies_not_using_a_recursive_comparator() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = StandardComparisonStrategy.instance();
+    // WHEN
+    ComparisonStrategy memoizingComparisonStrategy = ConfigurableRecursiveFieldByFieldComparator.memoizingRecursiveComparisonsOf(comparisonStrategy);
+    // THEN
+    then(memoizingComparisonStrategy).isSameAs(comparisonStrategy);
+  }
+
   @Test
   void should_return_0_when_both_values_are_null() {
     // GIVEN
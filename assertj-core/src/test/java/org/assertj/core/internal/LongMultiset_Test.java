@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LongMultiset_Test {
+
+  @Test
+  void should_count_added_values() {
+    // GIVEN
+    LongMultiset multiset = new LongMultiset(0);
+    // WHEN
+    multiset.add(1);
+    multiset.add(-1);
+    multiset.add(1);
+    multiset.add(Long.MIN_VALUE);
+    // THEN
+    then(multiset.count(1)).isEqualTo(2);
+    then(multiset.count(-1)).isEqualTo(1);
+    then(multiset.count(Long.MIN_VALUE)).isEqualTo(1);
+    then(multiset.count(0)).isZero();
+    then(multiset.contains(Long.MAX_VALUE)).isFalse();
+  }
+
+  @Test
+  void should_remove_one_occurrence_at_a_time() {
+    // GIVEN
+    LongMultiset multiset = LongMultiset.of(list(7, 7, 8), 3);
+    // WHEN/THEN
+    then(multiset.remove(7)).isTrue();
+    then(multiset.remove(7)).isTrue();
+    then(multiset.remove(7)).isFalse();
+    then(multiset.contains(7)).isFalse();
+    then(multiset.contains(8)).isTrue();
+    then(multiset.remove(9)).isFalse();
+  }
+
+  @Test
+  void should_keep_counts_when_growing() {
+    // GIVEN
+    LongMultiset multiset = new LongMultiset(1);
+    // WHEN
+    LongStream.range(0, 10_000).forEach(value -> {
+      multiset.add(value * 1_024);
+      multiset.add(value * 1_024);
+    });
+    // THEN
+    then(LongStream.range(0, 10_000)).allSatisfy(value -> then(multiset.count(value * 1_024)).isEqualTo(2));
+    then(multiset.contains(1)).isFalse();
+  }
+
+  @Test
+  void should_only_count_homogeneous_integers_or_longs() {
+    then(LongMultiset.canCount(list(1, 2), list(3))).isTrue();
+    then(LongMultiset.canCount(list(1L, 2L), list())).isTrue();
+    then(LongMultiset.canCount(list(), list())).isTrue();
+    then(LongMultiset.canCount(list(1, 2), list(3L))).isFalse();
+    then(LongMultiset.canCount(list(1, null))).isFalse();
+    then(LongMultiset.canCount(list((short) 1))).isFalse();
+    then(LongMultiset.canCount(list("1"))).isFalse();
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.comparisonstrategy.IterableElementComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link StandardComparisonStrategy#isConsistentWithLookupOf(Collection)}.
+ */
+class StandardComparisonStrategy_isConsistentWithLookupOf_Test extends AbstractTest_StandardComparisonStrategy {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_return_whether_collection_lookup_is_consistent_with_equals(Collection<?> collection, boolean expected) {
+    then(standardComparisonStrategy.isConsistentWithLookupOf(collection)).as(collection.getClass().getName())
+                                                                        .isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> should_return_whether_collection_lookup_is_consistent_with_equals() {
+    return Stream.of(arguments(new HashSet<>(), true),
+                     arguments(new LinkedHashSet<>(), true),
+                     arguments(EnumSet.noneOf(DayOfWeek.class), true),
+                     arguments(ConcurrentHashMap.newKeySet(), true),
+                     arguments(new TreeSet<>(), false),
+                     arguments(list(), false),
+                     arguments(Set.of(), false),
+                     arguments(new HashSet<>() {}, false));
+  }
+
+  @Test
+  void should_return_false_if_comparison_strategy_is_not_standard() {
+    // GIVEN
+    StandardComparisonStrategy comparisonStrategy = new IterableElementComparisonStrategy<>((o1, o2) -> 0);
+    // WHEN/THEN
+    then(comparisonStrategy.isConsistentWithLookupOf(new HashSet<>())).isFalse();
+  }
+
+  @Test
+  void should_find_element_whose_hashCode_has_changed_in_hash_set() {
+    // GIVEN
+    Date date = new Date(1_000);
+    Set<Date> dates = new HashSet<>(List.of(date));
+    date.setTime(2_000);
+    // WHEN
+    boolean found = standardComparisonStrategy.iterableContains(dates, date);
+    // THEN
+    then(found).isTrue();
+  }
+
+}
@@ -18,7 +18,11 @@ package org.assertj.core.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.junit.jupiter.api.Test;
@@ -38,6 +42,26 @@ class StandardComparisonStrategy_iterableContains_Test extends AbstractTest_Stan
     assertThat(standardComparisonStrategy.iterableContains(list, "Sauron")).isFalse();
   }
 
+  @Test
+  void should_look_null_up_in_collections_not_supporting_null_lookups() {
+    // GIVEN
+    Set<Object> set = ConcurrentHashMap.newKeySet();
+    set.add("Frodo");
+    // WHEN
+    boolean containsNull = standardComparisonStrategy.iterableContains(set, null);
+    // THEN
+    assertThat(containsNull).isFalse();
+  }
+
+  @Test
+  void should_pass_with_enum_sets() {
+    Set<TimeUnit> set = EnumSet.of(TimeUnit.SECONDS, TimeUnit.DAYS);
+    assertThat(standardComparisonStrategy.iterableContains(set, TimeUnit.DAYS)).isTrue();
+    assertThat(standardComparisonStrategy.iterableContains(set, TimeUnit.HOURS)).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(set, "DAYS")).isFalse();
+    assertThat(standardComparisonStrategy.iterableContains(set, null)).isFalse();
+  }
+
   @Test
   void should_return_false_if_iterable_is_null() {
     assertThat(standardComparisonStrategy.iterableContains(null, "Sauron")).isFalse();
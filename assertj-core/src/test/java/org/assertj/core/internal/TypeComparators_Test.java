@@ -98,6 +98,28 @@ class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  void should_return_the_comparator_registered_after_a_previous_lookup() {
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Bar.class, barComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(barComparator);
+
+    typeComparators.registerComparator(Foo.class, fooComparator);
+
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(fooComparator);
+  }
+
+  @Test
+  void should_find_no_comparator_after_clearing_previously_looked_up_comparators() {
+    typeComparators.registerComparator(Foo.class, newComparator());
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNotNull();
+
+    typeComparators.clear();
+
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+  }
+
   @Test
   void should_be_empty() {
     typeComparators.clear();
@@ -29,10 +29,16 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.internal.ConfigurableRecursiveFieldByFieldComparator;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.testkit.Jedi;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -114,6 +120,34 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                             StandardComparisonStrategy.instance()));
   }
 
+  @Test
+  void should_fail_if_actual_integers_do_not_contain_given_values_exactly() {
+    AssertionInfo info = someInfo();
+    List<Integer> integers = newArrayList(1, 2, 2, 3, 2);
+    Object[] expected = { 2, 4, 1, 4, 2 };
+
+    Throwable error = catchThrowable(() -> iterables.assertContainsExactlyInAnyOrder(info, integers, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info,
+                             shouldContainExactlyInAnyOrder(integers, expected, newArrayList(4, 4), newArrayList(3, 2),
+                                                            StandardComparisonStrategy.instance()));
+  }
+
+  @Test
+  void should_not_mix_up_integers_and_longs() {
+    AssertionInfo info = someInfo();
+    List<Object> numbers = newArrayList(1, 2L);
+    Object[] expected = { 1L, 2 };
+
+    Throwable error = catchThrowable(() -> iterables.assertContainsExactlyInAnyOrder(info, numbers, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info,
+                             shouldContainExactlyInAnyOrder(numbers, expected, newArrayList(1L, 2), newArrayList(1, 2L),
+                                                            StandardComparisonStrategy.instance()));
+  }
+
   @Test
   void should_fail_if_expected_contains_duplicates_and_actual_does_not() {
     AssertionInfo info = someInfo();
@@ -174,4 +208,22 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                                   comparisonStrategy));
   }
 
+  @Test
+  void should_not_reuse_the_recursive_comparisons_of_a_previous_assertion() {
+    // GIVEN
+    ConfigurableRecursiveFieldByFieldComparator recursiveComparator = new ConfigurableRecursiveFieldByFieldComparator(new RecursiveComparisonConfiguration());
+    Iterables iterablesWithRecursiveComparisonStrategy = new Iterables(new ComparatorBasedComparisonStrategy(recursiveComparator));
+    Jedi luke = new Jedi("Luke", "green");
+    List<Jedi> jedis = newArrayList(luke, new Jedi("Yoda", "green"));
+    Object[] expected = { new Jedi("Yoda", "green"), new Jedi("Luke", "green") };
+    iterablesWithRecursiveComparisonStrategy.assertContainsExactlyInAnyOrder(someInfo(), jedis, expected);
+    luke.lightSaberColor = "blue";
+    // WHEN
+    Throwable error = catchThrowable(() -> iterablesWithRecursiveComparisonStrategy.assertContainsExactlyInAnyOrder(someInfo(),
+                                                                                                                    jedis,
+                                                                                                                    expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
 }
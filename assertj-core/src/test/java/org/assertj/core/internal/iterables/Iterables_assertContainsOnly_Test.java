@@ -15,9 +15,11 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.catchNullPointerException;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.PreparedExpectation.prepare;
 import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
@@ -32,6 +34,7 @@ import static org.mockito.Mockito.verify;
 import java.util.Collection;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -190,4 +193,50 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
   void should_pass_if_nonrestartable_actual_contains_only_given_values() {
     iterables.assertContainsOnly(someInfo(), createSinglyIterable(actual), array("Luke", "Yoda", "Leia"));
   }
+
+  @Test
+  void should_pass_if_actual_contains_prepared_values_only() {
+    // GIVEN
+    actual.addAll(list("Luke", "Luke"));
+    // WHEN/THEN
+    iterables.assertContainsOnly(someInfo(), actual, prepare(list("Leia", "Luke", "Yoda", "Luke")));
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_prepared_values_only() {
+    // GIVEN
+    actual.add("Han");
+    PreparedExpectation<String> expected = prepare(list("Luke", "Obiwan", "Yoda", "Leia", "Obiwan"));
+    // WHEN
+    expectAssertionError(() -> iterables.assertContainsOnly(info, actual, expected));
+    // THEN
+    verify(failures).failure(info, shouldContainOnly(actual, expected.toArray(), list("Obiwan", "Obiwan"), list("Han")));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_prepared_values_only_according_to_custom_comparison_strategy() {
+    iterablesWithCaseInsensitiveComparisonStrategy.assertContainsOnly(someInfo(), actual,
+                                                                      prepare(list("LUKE", "yoda", "Leia"),
+                                                                              CASE_INSENSITIVE_ORDER));
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_prepared_values_only_according_to_custom_comparison_strategy() {
+    // GIVEN
+    PreparedExpectation<String> expected = prepare(list("LUKE", "yoda", "Han"), CASE_INSENSITIVE_ORDER);
+    // WHEN
+    expectAssertionError(() -> iterablesWithCaseInsensitiveComparisonStrategy.assertContainsOnly(info, actual, expected));
+    // THEN
+    verify(failures).failure(info, shouldContainOnly(actual, expected.toArray(), list("Han"), list("Leia"),
+                                                     comparisonStrategy));
+  }
+
+  @Test
+  void should_compare_prepared_values_one_by_one_if_prepared_with_another_comparator() {
+    // GIVEN
+    PreparedExpectation<String> expected = prepare(list("LUKE", "yoda", "Leia"));
+    // WHEN/THEN
+    iterablesWithCaseInsensitiveComparisonStrategy.assertContainsOnly(someInfo(), actual, expected);
+  }
+
 }
@@ -15,12 +15,14 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.data.PreparedExpectation.prepare;
 import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
 import static org.assertj.core.internal.ErrorMessages.iterableValuesToLookForIsEmpty;
 import static org.assertj.core.internal.ErrorMessages.iterableValuesToLookForIsNull;
@@ -33,6 +35,7 @@ import static org.mockito.Mockito.verify;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -119,4 +122,36 @@ class Iterables_assertDoesNotContainAnyElementsOf_Test extends IterablesBaseTest
                              shouldNotContain(actual, expected.toArray(), newLinkedHashSet("LuKe", "YODA"), comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_does_not_contain_any_prepared_values() {
+    iterables.assertDoesNotContainAnyElementsOf(someInfo(), actual, prepare(newArrayList("Han", "Han", "Anakin")));
+  }
+
+  @Test
+  void should_fail_reporting_found_prepared_values_in_their_order() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    PreparedExpectation<String> expected = prepare(newArrayList("Han", "Leia", "Luke", "Leia"));
+    // WHEN
+    Throwable error = catchThrowable(() -> iterables.assertDoesNotContainAnyElementsOf(info, actual, expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldNotContain(actual, expected.toArray(), newLinkedHashSet("Leia", "Luke")));
+  }
+
+  @Test
+  void should_fail_if_actual_contains_prepared_values_according_to_custom_comparison_strategy() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    PreparedExpectation<String> expected = prepare(newArrayList("YODA", "Han", "LuKe"), CASE_INSENSITIVE_ORDER);
+    // WHEN
+    Throwable error = catchThrowable(() -> iterablesWithCaseInsensitiveComparisonStrategy.assertDoesNotContainAnyElementsOf(info,
+                                                                                                                            actual,
+                                                                                                                            expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info,
+                             shouldNotContain(actual, expected.toArray(), newLinkedHashSet("YODA", "LuKe"), comparisonStrategy));
+  }
+
 }
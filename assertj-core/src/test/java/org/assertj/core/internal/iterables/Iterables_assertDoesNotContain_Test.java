@@ -34,6 +34,8 @@ import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -60,6 +62,15 @@ class Iterables_assertDoesNotContain_Test extends IterablesBaseTest {
     iterables.assertDoesNotContain(someInfo(), actual, array("Han", "Han", "Anakin"));
   }
 
+  @Test
+  void should_pass_if_actual_does_not_support_null_lookups_and_does_not_contain_null() {
+    // GIVEN
+    Set<String> concurrentSet = ConcurrentHashMap.newKeySet();
+    concurrentSet.addAll(actual);
+    // THEN
+    iterables.assertDoesNotContain(someInfo(), concurrentSet, array((String) null));
+  }
+
   @Test
   void should_throw_error_if_array_of_values_to_look_for_is_empty() {
     assertThatIllegalArgumentException().isThrownBy(() -> iterables.assertDoesNotContain(someInfo(), actual,
@@ -97,6 +97,19 @@ class Maps_assertContainsExactly_Test extends MapsBaseTest {
     maps.assertContainsExactly(INFO, linkedActual, array(entry("name", "Yoda"), entry("color", "green")), null);
   }
 
+  @Test
+  void should_pass_without_looking_up_actual_entries_by_key() {
+    // GIVEN
+    Map<String, String> underTest = new LinkedHashMap<>(linkedActual) {
+      @Override
+      public String get(Object key) {
+        throw new UnsupportedOperationException("entries should be compared while iterating");
+      }
+    };
+    // WHEN/THEN
+    maps.assertContainsExactly(INFO, underTest, array(entry("name", "Yoda"), entry("color", "green")), null);
+  }
+
   @Test
   void should_fail_if_actual_contains_given_entries_in_disorder() {
     // WHEN
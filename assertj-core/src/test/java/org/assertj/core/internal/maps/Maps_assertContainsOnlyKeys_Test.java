@@ -35,6 +35,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.set;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -281,4 +282,27 @@ class Maps_assertContainsOnlyKeys_Test extends MapsBaseTest {
     then(actual).hasSize(initialSize);
   }
 
+  @Test
+  void should_fail_without_cloning_actual() {
+    // GIVEN
+    Map<String, String> actual = new NonCloneableMap<>(mapOf(entry("name", "Yoda"), entry("job", "Jedi")));
+    String[] expected = array("name", "color");
+    // WHEN
+    var error = expectAssertionError(() -> maps.assertContainsOnlyKeys(info, actual, expected));
+    // THEN
+    then(error).hasMessage(shouldContainOnlyKeys(actual, expected, set("color"), set("job")).create());
+  }
+
+  private static class NonCloneableMap<K, V> extends LinkedHashMap<K, V> {
+
+    NonCloneableMap(Map<K, V> map) {
+      super(map);
+    }
+
+    @Override
+    public Object clone() {
+      throw new UnsupportedOperationException("actual should not be cloned");
+    }
+  }
+
 }
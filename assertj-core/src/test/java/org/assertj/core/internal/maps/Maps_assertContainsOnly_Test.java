@@ -299,4 +299,28 @@ class Maps_assertContainsOnly_Test extends MapsBaseTest {
     then(actual).hasSize(initialSize);
   }
 
+  @Test
+  void should_fail_without_cloning_actual() {
+    // GIVEN
+    Map<String, String> actual = new NonCloneableMap<>(mapOf(entry("name", "Yoda"), entry("job", "Jedi")));
+    Entry<String, String>[] expected = array(entry("name", "Yoda"), entry("color", "Green"));
+    // WHEN
+    var error = expectAssertionError(() -> maps.assertContainsOnly(info, actual, expected, null));
+    // THEN
+    then(error).hasMessage(shouldContainOnly(actual, expected, set(entry("color", "Green")),
+                                             set(entry("job", "Jedi"))).create());
+  }
+
+  private static class NonCloneableMap<K, V> extends LinkedHashMap<K, V> {
+
+    NonCloneableMap(Map<K, V> map) {
+      super(map);
+    }
+
+    @Override
+    public Object clone() {
+      throw new UnsupportedOperationException("actual should not be cloned");
+    }
+  }
+
 }
@@ -15,8 +15,10 @@
  */
 package org.assertj.core.internal.objects;
 
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.data.PreparedExpectation.prepare;
 import static org.assertj.core.error.ShouldBeIn.shouldBeIn;
 import static org.assertj.core.internal.ErrorMessages.iterableIsNull;
 import static org.assertj.core.testkit.TestData.someInfo;
@@ -25,6 +27,8 @@ import static org.assertj.core.util.Lists.list;
 import static org.mockito.Mockito.verify;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.data.PreparedExpectation;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.ObjectsBaseTest;
 import org.junit.jupiter.api.BeforeAll;
@@ -101,4 +105,33 @@ class Objects_assertIsIn_with_Iterable_Test extends ObjectsBaseTest {
     // THEN
     verify(failures).failure(info, shouldBeIn("Luke", values, customComparisonStrategy));
   }
+
+  @Test
+  void should_pass_if_actual_is_in_prepared_expectation() {
+    objects.assertIsIn(someInfo(), "Yoda", prepare(values));
+  }
+
+  @Test
+  void should_pass_if_actual_is_null_and_prepared_expectation_contains_null() {
+    objects.assertIsIn(someInfo(), null, prepare(list("Yoda", null)));
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_in_prepared_expectation() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    PreparedExpectation<String> expectation = prepare(values);
+    // WHEN
+    expectAssertionError(() -> objects.assertIsIn(info, "Luke", expectation));
+    // THEN
+    verify(failures).failure(info, shouldBeIn("Luke", expectation));
+  }
+
+  @Test
+  void should_pass_if_actual_is_in_prepared_expectation_according_to_the_same_comparator() {
+    // GIVEN
+    Objects objectsIgnoringCase = new Objects(new ComparatorBasedComparisonStrategy(CASE_INSENSITIVE_ORDER));
+    // WHEN/THEN
+    objectsIgnoringCase.assertIsIn(someInfo(), "YODA", prepare(values, CASE_INSENSITIVE_ORDER));
+  }
 }
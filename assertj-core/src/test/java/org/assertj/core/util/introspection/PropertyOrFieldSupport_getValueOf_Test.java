@@ -240,6 +240,54 @@ class PropertyOrFieldSupport_getValueOf_Test {
     then(value).isEqualTo("New York");
   }
 
+  @Test
+  void should_extract_value_with_its_registered_accessor() {
+    // GIVEN
+    PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport();
+    propertyOrFieldSupport.registerAccessor(Employee.class, "age", employee -> employee.getAge() + 1);
+    propertyOrFieldSupport.registerAccessor(Name.class, "first", name -> name.getFirst().toUpperCase());
+    // WHEN
+    Object age = propertyOrFieldSupport.getValueOf("age", yoda);
+    Object firstName = propertyOrFieldSupport.getValueOf("name.first", yoda);
+    // THEN
+    then(age).isEqualTo(801);
+    then(firstName).isEqualTo("YODA");
+  }
+
+  @Test
+  void should_extract_values_without_registered_accessor_with_reflection() {
+    // GIVEN
+    PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport();
+    propertyOrFieldSupport.registerAccessor(Employee.class, "age", employee -> employee.getAge() + 1);
+    // WHEN
+    Object id = propertyOrFieldSupport.getValueOf("id", yoda);
+    // THEN
+    then(id).isEqualTo(1L);
+  }
+
+  @Test
+  void should_not_use_accessors_registered_for_a_super_type() {
+    // GIVEN
+    PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport();
+    propertyOrFieldSupport.registerAccessor(Employee.class, "age", employee -> employee.getAge() + 1);
+    // WHEN
+    Object age = propertyOrFieldSupport.getValueOf("age", employeeWithOverriddenName("Luke"));
+    // THEN
+    then(age).isEqualTo(0);
+  }
+
+  @Test
+  void should_extract_value_with_reflection_once_its_accessors_are_removed() {
+    // GIVEN
+    PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport();
+    propertyOrFieldSupport.registerAccessor(Employee.class, "age", employee -> employee.getAge() + 1);
+    propertyOrFieldSupport.removeAccessors(Employee.class);
+    // WHEN
+    Object age = propertyOrFieldSupport.getValueOf("age", yoda);
+    // THEN
+    then(age).isEqualTo(800);
+  }
+
   private Employee employeeWithBrokenName(String name) {
     return new Employee(1L, new Name(name), 0) {
       @Override
@@ -63,6 +63,55 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_traverse_deep_object_graphs_without_overflowing_the_stack() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    Link head = new Link(0);
+    Link link = head;
+    for (int i = 1; i < 100_000; i++) {
+      link.next = new Link(i);
+      link = link.next;
+    }
+    AtomicInteger evaluatedLinks = new AtomicInteger();
+    Predicate<Object> countingLinks = node -> {
+      if (node instanceof Link) evaluatedLinks.incrementAndGet();
+      return true;
+    };
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(countingLinks, head);
+    // THEN
+    then(failedFields).isEmpty();
+    // the root object is not evaluated
+    then(evaluatedLinks).hasValue(99_999);
+  }
+
+  @Test
+  void should_visit_distinct_nodes_equal_to_each_other() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    Pair pair = new Pair(new Value("a"), new Value("a"));
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(node -> !(node instanceof Value), pair);
+    // THEN
+    then(failedFields).containsExactly(rootFieldLocation().field("first"), rootFieldLocation().field("second"));
+  }
+
+  static class Link {
+    final int value;
+    Link next;
+
+    Link(int value) {
+      this.value = value;
+    }
+  }
+
+  record Value(String value) {
+  }
+
+  record Pair(Value first, Value second) {
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.assertj.core.api.recursive.comparison.ComparingAccessors;
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyOrFieldSupport;
+import org.assertj.tests.core.api.recursive.data.Home;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ComparingAccessors_Test extends RecursiveComparisonAssert_BaseTest {
+
+  private ComparingAccessors comparingAccessors;
+
+  @BeforeEach
+  void registerAccessors() {
+    comparingAccessors = new ComparingAccessors().registerAccessor(Person.class, "name", person -> person.name)
+                                                 .registerAccessor(Person.class, "home", person -> person.home);
+  }
+
+  @Test
+  void getChildrenNodeNamesOf_should_return_the_registered_children_nodes() {
+    // GIVEN
+    Person person = new Person("John");
+    // WHEN/THEN
+    then(comparingAccessors.getChildrenNodeNamesOf(person)).containsExactly("name", "home");
+  }
+
+  @Test
+  void getChildrenNodeNamesOf_should_use_the_fallback_strategy_for_types_without_registered_accessors() {
+    // GIVEN
+    Home home = new Home();
+    // WHEN/THEN
+    then(comparingAccessors.getChildrenNodeNamesOf(home)).containsExactly("address");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_the_child_node_with_its_registered_accessor() {
+    // GIVEN
+    Person person = new Person("John");
+    // WHEN/THEN
+    then(comparingAccessors.getChildNodeValue("name", person)).isEqualTo("John");
+    then(comparingAccessors.getChildNodeValue("address", person.home)).isSameAs(person.home.address);
+  }
+
+  @Test
+  void getChildNodeValue_should_fail_when_no_accessor_is_registered_for_the_child_node() {
+    // GIVEN
+    Person person = new Person("John");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> comparingAccessors.getChildNodeValue("dateOfBirth", person));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessage("No accessor registered for 'dateOfBirth' in " + Person.class.getName());
+  }
+
+  @Test
+  void should_only_compare_the_registered_children_nodes() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.dateOfBirth = new Date(123);
+    actual.phone = Optional.of("123");
+    Person expected = new Person("John");
+    expected.dateOfBirth = new Date(456);
+    expected.phone = Optional.of("456");
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withIntrospectionStrategy(comparingAccessors)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_differences_found_with_the_registered_accessors_and_the_fallback_strategy() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    recursiveComparisonConfiguration.setIntrospectionStrategy(comparingAccessors);
+    // WHEN/THEN
+    ComparisonDifference nameDifference = javaTypeDiff("name", "John", "Jack");
+    ComparisonDifference addressNumberDifference = javaTypeDiff("home.address.number", 1, 2);
+    compareRecursivelyFailsWithDifferences(actual, expected, addressNumberDifference, nameDifference);
+  }
+
+  @Test
+  void should_extract_the_registered_children_nodes_with_their_accessors_once_registered_for_extraction() {
+    // GIVEN
+    ComparingAccessors comparingAccessors = new ComparingAccessors().registerAccessor(Person.class, "name",
+                                                                                      person -> person.name.toUpperCase());
+    Person person = new Person("John");
+    try {
+      // WHEN
+      comparingAccessors.registerAccessorsIn(PropertyOrFieldSupport.EXTRACTION);
+      // THEN
+      then(person).extracting("name", "home.address.number")
+                  .containsExactly("JOHN", 1);
+    } finally {
+      PropertyOrFieldSupport.EXTRACTION.removeAccessors(Person.class);
+    }
+    then(person).extracting("name").isEqualTo("John");
+  }
+
+  @Test
+  void should_describe_the_strategy_with_its_fallback_strategy() {
+    then(comparingAccessors.getDescription()).isEqualTo("comparing registered accessors (other types: comparing fields)");
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparingProperties;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonIntrospectionStrategy;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonSnapshot;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonSnapshot_Test extends RecursiveComparisonAssert_BaseTest {
+
+  @Test
+  void should_pass_when_actual_has_the_same_data_as_the_snapshot() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("John");
+    expected.home.address.number = 1;
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(RecursiveComparisonSnapshot.of(expected));
+  }
+
+  @Test
+  void should_fail_when_actual_differs_from_the_snapshot() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("John");
+    expected.home.address.number = 2;
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(expected);
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .isEqualTo(expectedSnapshot));
+    // THEN
+    then(assertionError).hasMessageContainingAll("field/property 'home.address.number' differ:",
+                                                 "- actual value  : 1",
+                                                 "- expected value: 2");
+  }
+
+  @Test
+  void should_compare_actual_to_the_values_frozen_when_the_snapshot_was_taken() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(expected);
+    expected.name = "Jack";
+    expected.home.address.number = 2;
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(expectedSnapshot);
+  }
+
+  @Test
+  void should_honor_the_comparison_configuration() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("Jack");
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(expected);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .ignoringFields("name")
+                      .isEqualTo(expectedSnapshot);
+  }
+
+  @Test
+  void should_freeze_the_snapshot_with_the_configuration_introspection_strategy() {
+    // GIVEN
+    recursiveComparisonConfiguration.setIntrospectionStrategy(new ComparingProperties());
+    Item actual = new Item("apple", 1);
+    Item expected = new Item("apple", 1);
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(expected, recursiveComparisonConfiguration);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(expectedSnapshot);
+  }
+
+  @Test
+  void should_not_change_the_given_configuration() {
+    // GIVEN
+    RecursiveComparisonIntrospectionStrategy introspectionStrategy = recursiveComparisonConfiguration.getIntrospectionStrategy();
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(new Person("Jack"));
+    // WHEN
+    RecursiveComparisonConfiguration comparisonConfiguration = expectedSnapshot.comparisonConfigurationFrom(recursiveComparisonConfiguration);
+    // THEN
+    then(comparisonConfiguration).isNotSameAs(recursiveComparisonConfiguration);
+    then(comparisonConfiguration.getIntrospectionStrategy()).isNotSameAs(introspectionStrategy);
+    then(recursiveComparisonConfiguration.getIntrospectionStrategy()).isSameAs(introspectionStrategy);
+  }
+
+  @Test
+  void should_fail_when_the_comparison_introspection_strategy_is_not_the_one_the_snapshot_was_taken_with() {
+    // GIVEN
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(new Person("John"));
+    recursiveComparisonConfiguration.setIntrospectionStrategy(new ComparingProperties());
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(new Person("John")).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                            .isEqualTo(expectedSnapshot));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessageContainingAll("The snapshot was taken with the",
+                                            "comparing fields",
+                                            "but is compared with the",
+                                            "comparing properties");
+  }
+
+  @Test
+  void isNotEqualTo_should_fail_when_actual_has_the_same_data_as_the_snapshot() {
+    // GIVEN
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(new Person("John"));
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(new Person("John")).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                                  .isNotEqualTo(expectedSnapshot));
+    // THEN
+    then(assertionError).hasMessageContaining("when recursively comparing field by field");
+  }
+
+  @Test
+  void isNotEqualTo_should_pass_when_actual_differs_from_the_snapshot() {
+    // GIVEN
+    RecursiveComparisonSnapshot expectedSnapshot = RecursiveComparisonSnapshot.of(new Person("Jack"));
+    // WHEN/THEN
+    assertThat(new Person("John")).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                  .isNotEqualTo(expectedSnapshot);
+  }
+
+  @Test
+  void should_support_cyclic_graphs() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.neighbour = new Person("Jack");
+    actual.neighbour.neighbour = actual;
+    Person expected = new Person("John");
+    expected.neighbour = new Person("Jack");
+    expected.neighbour.neighbour = expected;
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(RecursiveComparisonSnapshot.of(expected));
+  }
+
+  @Test
+  void should_compare_actual_to_a_deserialized_snapshot() throws Exception {
+    // GIVEN
+    Basket actual = new Basket("John", List.of(new Item("apple", 2), new Item("pear", 1)));
+    Basket expected = new Basket("John", List.of(new Item("apple", 2), new Item("pear", 3)));
+    RecursiveComparisonSnapshot expectedSnapshot = deserialize(serialize(RecursiveComparisonSnapshot.of(expected)));
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .isEqualTo(expectedSnapshot));
+    // THEN
+    then(assertionError).hasMessageContainingAll("field/property 'items[1].quantity' differ:",
+                                                 "- actual value  : 1",
+                                                 "- expected value: 3");
+  }
+
+  private static byte[] serialize(RecursiveComparisonSnapshot snapshot) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(snapshot);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static RecursiveComparisonSnapshot deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (RecursiveComparisonSnapshot) in.readObject();
+    }
+  }
+
+  static class Basket implements Serializable {
+    final String owner;
+    final List<Item> items;
+
+    Basket(String owner, List<Item> items) {
+      this.owner = owner;
+      this.items = items;
+    }
+  }
+
+  static class Item implements Serializable {
+    private final String name;
+    private final int quantity;
+
+    Item(String name, int quantity) {
+      this.name = name;
+      this.quantity = quantity;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getQuantity() {
+      return quantity;
+    }
+  }
+}
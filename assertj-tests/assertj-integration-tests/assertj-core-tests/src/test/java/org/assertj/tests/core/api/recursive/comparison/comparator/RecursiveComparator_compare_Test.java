@@ -18,6 +18,8 @@ package org.assertj.tests.core.api.recursive.comparison.comparator;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.RecursiveComparator;
@@ -89,4 +91,27 @@ class RecursiveComparator_compare_Test {
     then(compareResult2).isNotZero();
   }
 
+  @Test
+  void should_stop_comparing_objects_at_the_first_difference() {
+    // GIVEN
+    AtomicInteger comparisons = new AtomicInteger();
+    Comparator<String> countingComparator = (s1, s2) -> {
+      comparisons.incrementAndGet();
+      return s1.compareTo(s2);
+    };
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.registerComparatorForType(countingComparator, String.class);
+    RecursiveComparator recursiveComparator = new RecursiveComparator(configuration);
+    Names actual = new Names("Jack", "Jim", "Joe");
+    Names other = new Names("John", "Jane", "Jill");
+    // WHEN
+    int compareResult = recursiveComparator.compare(actual, other);
+    // THEN
+    then(compareResult).isNotZero();
+    then(comparisons).hasValue(1);
+  }
+
+  record Names(String first, String second, String third) {
+  }
+
 }
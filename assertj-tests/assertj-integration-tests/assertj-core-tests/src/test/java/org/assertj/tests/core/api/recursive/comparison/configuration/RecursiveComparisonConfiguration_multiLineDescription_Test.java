@@ -452,6 +452,36 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_that_comparison_is_performed_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the elements of large ordered collections, arrays and maps were compared in parallel");
+  }
+
+  @Test
+  void should_show_the_maximum_number_of_differences_to_report() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(10);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- at most 10 differences are reported");
+  }
+
+  @Test
+  void should_show_the_maximum_depth_of_introspected_values() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDepth(2);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the values deeper than depth 2 (root fields being at depth 1) were compared with equals instead of being introspected");
+  }
+
   @Test
   void should_show_ignoreNonExistentFields_in_the_description() {
     // GIVEN
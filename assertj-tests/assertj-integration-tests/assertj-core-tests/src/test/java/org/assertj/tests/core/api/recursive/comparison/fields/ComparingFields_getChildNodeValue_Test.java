@@ -68,6 +68,31 @@ class ComparingFields_getChildNodeValue_Test {
                    .hasMessageContaining("Unable to obtain the value of the field <'publicStaticField'>");
   }
 
+  @Test
+  void getChildNodeValue_should_read_inherited_fields() {
+    // GIVEN
+    SubFields node = new SubFields();
+    // WHEN
+    Object value = COMPARING_FIELDS.getChildNodeValue("privateField", node);
+    // THEN
+    then(value).isEqualTo("privateField value");
+  }
+
+  @Test
+  void getChildNodeValue_should_read_the_field_declared_the_closest_to_the_node_class() {
+    // GIVEN
+    SubFields node = new SubFields();
+    // WHEN
+    Object value = COMPARING_FIELDS.getChildNodeValue("publicField", node);
+    // THEN
+    then(value).isEqualTo("shadowing publicField value");
+  }
+
+  @SuppressWarnings("unused")
+  static class SubFields extends Fields {
+    public final Object publicField = "shadowing publicField value";
+  }
+
   @SuppressWarnings("unused")
   static class Fields {
     public static final Object publicStaticField = "publicStaticField value";
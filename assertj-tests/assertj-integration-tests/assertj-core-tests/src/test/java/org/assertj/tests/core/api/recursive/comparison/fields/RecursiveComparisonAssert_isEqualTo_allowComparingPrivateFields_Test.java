@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.setAllowComparingPrivateFields;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.util.introspection.IntrospectionError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_allowComparingPrivateFields_Test {
+
+  @AfterEach
+  void restoreDefault() {
+    setAllowComparingPrivateFields(true);
+  }
+
+  @Test
+  void should_compare_private_fields_by_default() {
+    // GIVEN
+    WithPrivateField actual = new WithPrivateField("John");
+    WithPrivateField expected = new WithPrivateField("John");
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_to_compare_private_fields_when_not_allowed() {
+    // GIVEN
+    setAllowComparingPrivateFields(false);
+    WithPrivateField actual = new WithPrivateField("John");
+    WithPrivateField expected = new WithPrivateField("John");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(actual).usingRecursiveComparison()
+                                                                 .isEqualTo(expected));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessageContaining("Unable to obtain the value of the field <'name'>");
+  }
+
+  @Test
+  void should_compare_public_fields_when_private_fields_are_not_allowed() {
+    // GIVEN
+    setAllowComparingPrivateFields(false);
+    WithPublicField actual = new WithPublicField("John");
+    WithPublicField expected = new WithPublicField("Jack");
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(actual).usingRecursiveComparison()
+                                                                 .isEqualTo(expected));
+    // THEN
+    then(throwable).isInstanceOf(AssertionError.class)
+                   .hasMessageContaining("field/property 'name' differ:");
+  }
+
+  @SuppressWarnings("unused")
+  static class WithPrivateField {
+    private final String name;
+
+    WithPrivateField(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class WithPublicField {
+    public final String name;
+
+    WithPublicField(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -30,6 +30,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
@@ -554,4 +555,74 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                      "  [Item(Shoes, 2)]"));
   }
 
+  @Test
+  void should_compute_element_hash_codes_once_when_comparing_iterables_ignoring_order_with_overridden_equals() {
+    // GIVEN
+    AtomicInteger hashCodeCalls = new AtomicInteger();
+    // root elements are never compared with equals
+    Crew actual = new Crew(list(new HashCounting("a", hashCodeCalls), new HashCounting("b", hashCodeCalls),
+                                new HashCounting("c", hashCodeCalls)));
+    Crew expected = new Crew(list(new HashCounting("c", hashCodeCalls), new HashCounting("a", hashCodeCalls),
+                                  new HashCounting("b", hashCodeCalls)));
+    // WHEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .ignoringCollectionOrder()
+                      .usingOverriddenEquals()
+                      .isEqualTo(expected);
+    // THEN
+    then(hashCodeCalls).hasValue(actual.members.size() + expected.members.size());
+  }
+
+  record Crew(List<HashCounting> members) {
+  }
+
+  static class HashCounting {
+    final String name;
+    final AtomicInteger hashCodeCalls;
+
+    HashCounting(String name, AtomicInteger hashCodeCalls) {
+      this.name = name;
+      this.hashCodeCalls = hashCodeCalls;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof HashCounting other && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      hashCodeCalls.incrementAndGet();
+      return name.hashCode();
+    }
+  }
+
+  @Test
+  void should_match_each_actual_element_with_a_single_expected_element() {
+    // GIVEN
+    List<Item> actualItems = List.of(new Item("Shoes", 2), new Item("Pants", 3));
+    List<Item> expectedItems = List.of(new Item("Shoes", 2), new Item("Shoes", 2));
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actualItems).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                           .ignoringCollectionOrder()
+                                                                           .isEqualTo(expectedItems));
+    // THEN
+    then(assertionError).hasMessageContaining("The following expected elements were not matched in the actual");
+  }
+
+  @Test
+  void should_pass_when_an_expected_element_matching_several_actual_elements_is_not_matched_first_with_the_right_one() {
+    // GIVEN
+    // names are ignored and actual quantities must be at least the expected ones: the first expected item matches both
+    // actual items while the second one only matches the first actual item.
+    List<Item> actualItems = List.of(new Item("Shoes", 2), new Item("Pants", 1));
+    List<Item> expectedItems = List.of(new Item("Shoes", 1), new Item("Shoes", 2));
+    // WHEN/THEN
+    then(actualItems).usingRecursiveComparison(recursiveComparisonConfiguration)
+                     .ignoringCollectionOrder()
+                     .withEqualsForFields((String name1, String name2) -> true, "name")
+                     .withEqualsForFields((Integer quantity1, Integer quantity2) -> quantity1 >= quantity2, "quantity")
+                     .isEqualTo(expectedItems);
+  }
+
 }
@@ -333,6 +333,9 @@ class RecursiveComparisonAssert_isEqualTo_ignoringFields_Test extends WithCompar
                      arguments(treeMapOf(firstNameJohn, lastNameDoe),
                                treeMapOf(firstNameJohn, lastNameWick, entry("age", "25")),
                                "ordered maps of different size, all fields ignored", array("age", "lastName", "firstName")),
+                     arguments(treeMapOf(entry("age", "25"), firstNameJohn, lastNameDoe),
+                               treeMapOf(firstNameJohn, lastNameDoe, entry("zip", "90210")),
+                               "ordered maps with different fields ignored at different positions", array("age", "zip")),
                      arguments(withMap(treeMapOf(firstNameJohn, lastNameDoe)),
                                withMap(treeMapOf(firstNameJohn, lastNameWick)),
                                "ordered maps with same size, one common inner field ignored", array("map.lastName")),
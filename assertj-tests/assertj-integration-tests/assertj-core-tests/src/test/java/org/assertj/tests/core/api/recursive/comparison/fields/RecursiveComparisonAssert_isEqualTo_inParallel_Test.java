@@ -0,0 +1,255 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Home;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_inParallel_Test extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  private static final int SIZE = 5_000;
+
+  @Test
+  void should_pass_when_comparing_large_equal_collections_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    // THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_comparing_large_equal_arrays_in_parallel() {
+    // GIVEN
+    Person[] actual = persons().toArray(new Person[0]);
+    Person[] expected = persons().toArray(new Person[0]);
+    // THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_comparing_large_equal_maps_in_parallel() {
+    // GIVEN
+    Map<String, Person> actual = new HashMap<>(personsByName());
+    Map<String, Person> expected = new HashMap<>(personsByName());
+    // THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_comparing_large_equal_sorted_maps_in_parallel() {
+    // GIVEN
+    Map<String, Person> actual = personsByName();
+    Map<String, Person> expected = personsByName();
+    // THEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_map_differences_as_a_sequential_comparison() {
+    // GIVEN
+    Map<String, Person> actual = personsByName();
+    Map<String, Person> expected = personsByName();
+    expected.get("person 1234").name = "Jack";
+    expected.get("person 4321").home.address.number = -1;
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                          expected,
+                                                                                                                          new RecursiveComparisonConfiguration());
+    then(differences).hasSize(2)
+                     .isEqualTo(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    expected.get(1234).name = "Jack";
+    expected.get(4321).home.address.number = -1;
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                          expected,
+                                                                                                                          new RecursiveComparisonConfiguration());
+    then(differences).hasSize(2)
+                     .isEqualTo(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison_when_elements_share_values() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    // far apart elements are compared in different chunks
+    actual.get(10).home = actual.get(4000).home;
+    expected.get(10).home = expected.get(4000).home;
+    expected.get(4000).home.address.number = -1;
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    sequentialConfiguration.registerEqualsForType(RecursiveComparisonAssert_isEqualTo_inParallel_Test::sameNumber, Home.class);
+    List<ComparisonDifference> sequentialDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                          expected,
+                                                                                                                          sequentialConfiguration);
+    recursiveComparisonConfiguration.registerEqualsForType(RecursiveComparisonAssert_isEqualTo_inParallel_Test::sameNumber,
+                                                           Home.class);
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<List<ComparisonDifference>> differences = IntStream.range(0, 20)
+                                                            .mapToObj(i -> new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                                              expected,
+                                                                                                                                              recursiveComparisonConfiguration))
+                                                            .toList();
+    // THEN
+    then(sequentialDifferences).extracting(ComparisonDifference::getConcatenatedPath)
+                               .containsExactly("[10].home", "[4000].home");
+    then(differences).containsOnly(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison_when_close_elements_share_values() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    actual.get(10).home = actual.get(11).home;
+    expected.get(10).home = expected.get(11).home;
+    expected.get(11).home.address.number = -1;
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    sequentialConfiguration.registerEqualsForType(RecursiveComparisonAssert_isEqualTo_inParallel_Test::sameNumber, Home.class);
+    recursiveComparisonConfiguration.registerEqualsForType(RecursiveComparisonAssert_isEqualTo_inParallel_Test::sameNumber,
+                                                           Home.class);
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                          expected,
+                                                                                                                          sequentialConfiguration);
+    then(differences).hasSize(2)
+                     .isEqualTo(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison_with_a_maximum_number_of_differences() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    IntStream.iterate(0, i -> i < SIZE, i -> i + 100).forEach(i -> expected.get(i).name = "Jack");
+    RecursiveComparisonConfiguration sequentialConfiguration = new RecursiveComparisonConfiguration();
+    sequentialConfiguration.setMaxDifferences(5);
+    List<ComparisonDifference> sequentialDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                          expected,
+                                                                                                                          sequentialConfiguration);
+    recursiveComparisonConfiguration.setMaxDifferences(5);
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<List<ComparisonDifference>> differences = IntStream.range(0, 20)
+                                                            .mapToObj(i -> new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                                              expected,
+                                                                                                                                              recursiveComparisonConfiguration))
+                                                            .toList();
+    // THEN
+    then(sequentialDifferences).extracting(ComparisonDifference::getConcatenatedPath)
+                               .containsExactly("[4400].name", "[4500].name", "[4600].name", "[4700].name", "[4800].name",
+                                                "[4900].name");
+    then(differences).containsOnly(sequentialDifferences);
+  }
+
+  @Test
+  void should_stop_comparing_in_parallel_once_the_maximum_number_of_differences_is_exceeded() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    expected.forEach(person -> person.name = "Jack");
+    AtomicInteger comparedHomes = new AtomicInteger();
+    recursiveComparisonConfiguration.registerEqualsForType((Home home1, Home home2) -> comparedHomes.incrementAndGet() > 0,
+                                                           Home.class);
+    recursiveComparisonConfiguration.setMaxDifferences(3);
+    recursiveComparisonConfiguration.inParallel(true);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                expected,
+                                                                                                                recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(4);
+    // each chunk compares at most 4 persons before exceeding the maximum differences
+    then(comparedHomes).hasValueLessThan(SIZE / 10);
+  }
+
+  @Test
+  void should_fail_when_comparing_large_different_collections_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons();
+    List<Person> expected = persons();
+    expected.get(1234).name = "Jack";
+    recursiveComparisonConfiguration.inParallel(true);
+    // THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, javaTypeDiff("[1234].name", "person 1234", "Jack"));
+  }
+
+  private static boolean sameNumber(Home home1, Home home2) {
+    return home1.address.number == home2.address.number;
+  }
+
+  private static List<Person> persons() {
+    List<Person> persons = new ArrayList<>();
+    IntStream.range(0, SIZE).forEach(i -> {
+      Person person = new Person("person " + i);
+      person.home.address.number = i;
+      persons.add(person);
+    });
+    return persons;
+  }
+
+  private static Map<String, Person> personsByName() {
+    Map<String, Person> personsByName = new TreeMap<>();
+    persons().forEach(person -> personsByName.put(person.name, person));
+    return personsByName;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDepth_Test extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  @Test
+  void should_pass_when_values_up_to_the_maximum_depth_are_equal() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("John");
+    expected.home.address.number = 1;
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withMaxDepth(2)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_compare_values_beyond_the_maximum_depth_with_equals() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.neighbour = new Person("Jack");
+    Person expected = new Person("John");
+    expected.neighbour = new Person("Jack");
+    recursiveComparisonConfiguration.setMaxDepth(1);
+    // WHEN/THEN
+    ComparisonDifference homeAddressDifference = diff("home.address", actual.home.address, expected.home.address,
+                                                      "Actual was compared to expected with equals as it is deeper than the maximum depth of introspected values (1)");
+    ComparisonDifference neighbourHomeDifference = diff("neighbour.home", actual.neighbour.home, expected.neighbour.home,
+                                                        "Actual was compared to expected with equals as it is deeper than the maximum depth of introspected values (1)");
+    compareRecursivelyFailsWithDifferences(actual, expected, homeAddressDifference, neighbourHomeDifference);
+  }
+
+  @Test
+  void should_not_introspect_collections_beyond_the_maximum_depth() {
+    // GIVEN
+    WithNeighbours actual = new WithNeighbours(list(new Person("Jack")));
+    WithNeighbours expected = new WithNeighbours(list(new Person("Jack")));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                             .withMaxDepth(0)
+                                                             .isEqualTo(expected));
+    // THEN
+    then(error).hasMessageContainingAll("field/property 'neighbours' differ:",
+                                        "deeper than the maximum depth of introspected values (0)")
+               .message().doesNotContain("neighbours.[0]");
+  }
+
+  @Test
+  void should_compare_java_types_beyond_the_maximum_depth_as_usual() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("Jack");
+    expected.home = actual.home;
+    recursiveComparisonConfiguration.setMaxDepth(0);
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, javaTypeDiff("name", "John", "Jack"));
+  }
+
+  @Test
+  void should_honor_enum_against_string_comparison_beyond_the_maximum_depth() {
+    // GIVEN
+    Light actual = new Light(Color.RED);
+    LightString expected = new LightString("RED");
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withMaxDepth(0)
+                .withEnumStringComparison()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_introspect_collection_elements_at_the_depth_of_their_collection() {
+    // GIVEN
+    WithNeighbours actual = new WithNeighbours(list(new Person("Jack")));
+    WithNeighbours expected = new WithNeighbours(list(new Person("Jack")));
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withMaxDepth(1)
+                .ignoringFields("neighbours.home")
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_the_maximum_depth_is_negative() {
+    // GIVEN
+    Person actual = new Person("John");
+    // WHEN
+    var iae = catchIllegalArgumentException(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                    .withMaxDepth(-1));
+    // THEN
+    then(iae).hasMessage("The maximum depth of the introspected values must be zero or positive but was -1");
+  }
+
+  enum Color {
+    RED, GREEN
+  }
+
+  static class Light {
+    Color color;
+
+    Light(Color color) {
+      this.color = color;
+    }
+  }
+
+  static class LightString {
+    String color;
+
+    LightString(String color) {
+      this.color = color;
+    }
+  }
+
+  static class WithNeighbours {
+    List<Person> neighbours;
+
+    WithNeighbours(List<Person> neighbours) {
+      this.neighbours = neighbours;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDifferences_Test extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  @Test
+  void should_report_only_the_maximum_number_of_differences() {
+    // GIVEN
+    List<Person> actual = list(new Person("John"), new Person("Jack"), new Person("James"), new Person("Jim"));
+    List<Person> expected = list(new Person("Johnny"), new Person("Jacky"), new Person("Jamesy"), new Person("Jimmy"));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                             .withMaxDifferences(2)
+                                                             .isEqualTo(expected));
+    // THEN
+    then(error).hasMessageContainingAll("but found the following 2 of at least 3 differences:",
+                                        "- at most 2 differences are reported");
+    long reportedDifferences = error.getMessage().lines().filter(line -> line.contains("field/property '[")).count();
+    then(reportedDifferences).isEqualTo(2);
+  }
+
+  @Test
+  void should_report_all_differences_when_there_are_no_more_than_the_maximum() {
+    // GIVEN
+    List<Person> actual = list(new Person("John"), new Person("Jack"));
+    List<Person> expected = list(new Person("Johnny"), new Person("Jacky"));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                             .withMaxDifferences(2)
+                                                             .isEqualTo(expected));
+    // THEN
+    then(error).hasMessageContainingAll("but found the following 2 differences:",
+                                        "field/property '[0].name' differ:",
+                                        "field/property '[1].name' differ:",
+                                        "- at most 2 differences are reported")
+               .message().doesNotContain("of at least");
+  }
+
+  @Test
+  void should_pass_when_objects_are_equal() {
+    // GIVEN
+    Person actual = new Person("John");
+    Person expected = new Person("John");
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withMaxDifferences(1)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_the_maximum_number_of_differences_is_not_strictly_positive() {
+    // GIVEN
+    Person actual = new Person("John");
+    // WHEN
+    var iae = catchIllegalArgumentException(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                    .withMaxDifferences(0));
+    // THEN
+    then(iae).hasMessage("The maximum number of differences to report must be strictly positive but was 0");
+  }
+}
@@ -15,9 +15,12 @@
  */
 package org.assertj.tests.core.api.recursive.comparison.fields;
 
+import static java.util.Comparator.comparingInt;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -25,6 +28,7 @@ import java.util.stream.Stream;
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.tests.core.api.recursive.data.Author;
 import org.assertj.tests.core.api.recursive.data.WithGroupField;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -102,6 +106,63 @@ class RecursiveComparisonAssert_isEqualTo_with_arrays_Test extends WithComparing
                                   "expected field is an array but actual field is not (java.util.ArrayList)"));
   }
 
+  @Test
+  void should_report_each_different_element_of_primitive_arrays() {
+    // GIVEN
+    WithPrimitiveArrays actual = new WithPrimitiveArrays(new byte[] { 1, 2, 3, 4 }, new int[] { 1, 2 });
+    WithPrimitiveArrays expected = new WithPrimitiveArrays(new byte[] { 1, 9, 3, 8 }, new int[] { 1, 2 });
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected,
+                                           javaTypeDiff("bytes.[1]", (byte) 2, (byte) 9),
+                                           javaTypeDiff("bytes.[3]", (byte) 4, (byte) 8));
+  }
+
+  @Test
+  void should_compare_primitive_arrays_elements_with_the_comparator_registered_for_their_type() {
+    // GIVEN
+    WithPrimitiveArrays actual = new WithPrimitiveArrays(new byte[] { 1 }, new int[] { 1, 2 });
+    WithPrimitiveArrays expected = new WithPrimitiveArrays(new byte[] { 1 }, new int[] { -1, -2 });
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .withComparatorForType(comparingInt(Math::abs), Integer.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_comparing_primitive_arrays_with_the_same_elements_in_a_different_order_ignoring_array_order() {
+    // GIVEN
+    WithPrimitiveArrays actual = new WithPrimitiveArrays(new byte[] { 1, 2, 2, 3 }, new int[] { 1, 2 });
+    WithPrimitiveArrays expected = new WithPrimitiveArrays(new byte[] { 2, 3, 1, 2 }, new int[] { 2, 1 });
+    // THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .ignoringArrayOrder()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_comparing_primitive_arrays_with_different_elements_ignoring_array_order() {
+    // GIVEN
+    WithPrimitiveArrays actual = new WithPrimitiveArrays(new byte[] { 1, 2, 2 }, new int[] { 1, 2 });
+    WithPrimitiveArrays expected = new WithPrimitiveArrays(new byte[] { 2, 1, 1 }, new int[] { 2, 1 });
+    // WHEN
+    var assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                      .ignoringArrayOrder()
+                                                                      .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("field/property 'bytes' differ:")
+                        .message().doesNotContain("field/property 'ints' differ:");
+  }
+
+  public static class WithPrimitiveArrays {
+    public byte[] bytes;
+    public int[] ints;
+
+    public WithPrimitiveArrays(byte[] bytes, int[] ints) {
+      this.bytes = bytes;
+      this.ints = ints;
+    }
+  }
+
   public static class WithArray<E> {
     public E[] group;
 
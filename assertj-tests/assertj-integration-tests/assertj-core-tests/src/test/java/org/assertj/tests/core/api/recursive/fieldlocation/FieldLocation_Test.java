@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import com.google.common.base.Stopwatch;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 
 class FieldLocation_Test {
 
@@ -34,9 +35,14 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation(list("a")), new FieldLocation(list("b")))
                   .withFactory(values -> new FieldLocation(values.<List<String>> get("decomposedPath")))
                   .withNonnullFields("decomposedPath")
-                  .withIgnoredFields("pathToUseInRules", "pathsHierarchyToUseInRules")
+                  // the paths are lazily computed and cached
+                  .suppress(Warning.NONFINAL_FIELDS)
+                  // derived from the decomposed path given to the factory
+                  .withIgnoredFields("parent", "name", "depth", "fieldDepth", "hash", "pathToUseInRules",
+                                     "pathsHierarchyToUseInRules")
                   .verify();
   }
 
@@ -46,4 +46,17 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_be_equal_to_the_field_location_built_from_the_same_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person", "[0]"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("name");
+    // THEN
+    FieldLocation fieldLocation = new FieldLocation(list("person", "[0]", "name"));
+    then(childFieldLocation).isEqualTo(fieldLocation)
+                            .hasSameHashCodeAs(fieldLocation)
+                            .isNotEqualTo(new FieldLocation(list("person", "[1]", "name")));
+  }
 }
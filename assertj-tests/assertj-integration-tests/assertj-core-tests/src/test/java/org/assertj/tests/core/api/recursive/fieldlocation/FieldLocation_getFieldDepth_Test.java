@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.fieldlocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
+import static org.assertj.core.util.Lists.list;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FieldLocation_getFieldDepth_Test {
+
+  @ParameterizedTest(name = "{0} depth is {1}")
+  @MethodSource
+  void should_return_the_number_of_fields_the_location_is_nested_in(FieldLocation fieldLocation, int expectedDepth) {
+    assertThat(fieldLocation.getFieldDepth()).isEqualTo(expectedDepth);
+  }
+
+  private static Stream<Arguments> should_return_the_number_of_fields_the_location_is_nested_in() {
+    return Stream.of(arguments(rootFieldLocation(), 0),
+                     arguments(new FieldLocation(list("[0]")), 0),
+                     arguments(new FieldLocation(list("name")), 1),
+                     arguments(new FieldLocation(list("[1]", "name")), 1),
+                     arguments(new FieldLocation(list("friend", "name")), 2),
+                     arguments(new FieldLocation(list("children", "[2]", "name")), 2),
+                     arguments(rootFieldLocation().field("person").field("children").field("[2]").field("name"), 3));
+  }
+
+}
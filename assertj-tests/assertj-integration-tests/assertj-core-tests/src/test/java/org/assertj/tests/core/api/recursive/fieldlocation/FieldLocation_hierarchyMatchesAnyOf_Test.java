@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.fieldlocation;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.set;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FieldLocation_hierarchyMatchesAnyOf_Test {
+
+  @ParameterizedTest(name = "{0} is or is a child of one of {1}")
+  @MethodSource
+  void hierarchyMatchesAnyOf_should_return_true(List<String> fieldPath, Set<String> others) {
+    // GIVEN
+    FieldLocation field = new FieldLocation(fieldPath);
+    // WHEN
+    boolean result = field.hierarchyMatchesAnyOf(others);
+    // THEN
+    then(result).as("%s is or is a child of one of %s", field, others).isTrue();
+  }
+
+  private static Stream<Arguments> hierarchyMatchesAnyOf_should_return_true() {
+    return Stream.of(arguments(list("name"), set("name")),
+                     arguments(list("name", "first"), set("age", "name")),
+                     arguments(list("name", "first", "nickname"), set("name.first", "age")),
+                     arguments(list("name", "first"), set("name.first")));
+  }
+
+  @ParameterizedTest(name = "{0} is not nor a child of any of {1}")
+  @MethodSource
+  void hierarchyMatchesAnyOf_should_return_false(List<String> fieldPath, Set<String> others) {
+    // GIVEN
+    FieldLocation field = new FieldLocation(fieldPath);
+    // WHEN
+    boolean result = field.hierarchyMatchesAnyOf(others);
+    // THEN
+    then(result).as("%s is not nor a child of any of %s", field, others).isFalse();
+  }
+
+  private static Stream<Arguments> hierarchyMatchesAnyOf_should_return_false() {
+    return Stream.of(arguments(list("person", "name"), set("name", "first")),
+                     arguments(list("names"), set("name")),
+                     arguments(list("name"), set("name.first", "nickname")),
+                     arguments(list("name"), set()));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.data;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.data.PreparedExpectation.prepare;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.data.PreparedExpectation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PreparedExpectation}.
+ */
+class PreparedExpectation_Test {
+
+  @Test
+  void should_keep_values_and_index_distinct_values_in_given_order() {
+    // WHEN
+    PreparedExpectation<String> expectation = prepare(List.of("Luke", "Yoda", "Luke", "Leia"));
+    // THEN
+    then(expectation).containsExactly("Luke", "Yoda", "Luke", "Leia");
+    then(expectation.isIndexed()).isTrue();
+    then(expectation.distinctValues()).containsExactly("Luke", "Yoda", "Leia");
+    then(expectation.indexOf("Yoda")).isEqualTo(1);
+    then(expectation.indexOf("Leia")).isEqualTo(2);
+    then(expectation.indexOf("Han")).isEqualTo(-1);
+  }
+
+  @Test
+  void should_index_null() {
+    // WHEN
+    PreparedExpectation<String> expectation = prepare(Arrays.asList("Luke", null, null));
+    // THEN
+    then(expectation.distinctValues()).containsExactly("Luke", null);
+    then(expectation.indexOf(null)).isEqualTo(1);
+    then(prepare(List.of("Luke")).indexOf(null)).isEqualTo(-1);
+  }
+
+  @Test
+  void should_look_values_up_with_the_given_comparator() {
+    // WHEN
+    PreparedExpectation<String> expectation = prepare(List.of("Luke", "LUKE", "Yoda"), CASE_INSENSITIVE_ORDER);
+    // THEN
+    then(expectation.comparator()).isSameAs(CASE_INSENSITIVE_ORDER);
+    then(expectation.distinctValues()).containsExactly("Luke", "Yoda");
+    then(expectation.indexOf("YODA")).isEqualTo(1);
+    then(expectation.contains("luke")).isTrue();
+  }
+
+  @Test
+  void should_not_find_values_the_comparator_cannot_compare() {
+    // GIVEN
+    PreparedExpectation<String> expectation = prepare(List.of("Luke"), CASE_INSENSITIVE_ORDER);
+    // WHEN
+    int index = expectation.indexOf(1);
+    // THEN
+    then(index).isEqualTo(-1);
+  }
+
+  @Test
+  void should_compare_arrays_by_content_without_index() {
+    // WHEN
+    PreparedExpectation<Object> expectation = prepare(List.of(new int[] { 1, 2 }, "Luke"));
+    // THEN
+    then(expectation.isIndexed()).isFalse();
+    then(expectation.indexOf(new int[] { 1, 2 })).isZero();
+    then(expectation.indexOf("Luke")).isEqualTo(1);
+    then(expectation.indexOf(new int[] { 2, 1 })).isEqualTo(-1);
+  }
+
+  @Test
+  void should_not_be_modifiable() {
+    // GIVEN
+    PreparedExpectation<String> expectation = prepare(List.of("Luke"));
+    // WHEN
+    Throwable thrown = catchThrowable(() -> expectation.add("Yoda"));
+    // THEN
+    then(thrown).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_fail_if_values_are_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> prepare(null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The expected values should not be null");
+  }
+
+  @Test
+  void should_fail_if_comparator_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> prepare(List.of("Luke"), null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The comparator should not be null");
+  }
+
+}